@@ -0,0 +1,98 @@
+package com.cmc.board.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건의 처리 시간: 세션 모드(JSESSIONID 로 HttpSession 조회)와 토큰 모드(Bearer 토큰 서명 검증)를 비교한다.
+ * 인증 외 비용이 작도록 캐시된 카테고리 목록(GET /categories)을 조회한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticatedRequestBenchmark {
+
+    @Param({"session", "token"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(
+                "board.auth.mode=" + mode,
+                "board.auth.token.secret=benchmark-secret-benchmark-secret-0123",
+                "board.concurrency.limit.enabled=false");
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        seeder.users(1);
+        seeder.category("자유");
+
+        client = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + "/categories")).GET();
+        if ("token".equals(mode)) {
+            builder.header("Authorization", "Bearer " + issueToken(baseUrl));
+        } else {
+            builder.header("Cookie", login(baseUrl));
+        }
+        request = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("인증 실패: " + status);
+        }
+        return status;
+    }
+
+    // 폼 로그인 후 세션 쿠키 반환
+    private String login(String baseUrl) throws Exception {
+        String form = "email=" + URLEncoder.encode(BenchmarkDataSeeder.email(0), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(BenchmarkDataSeeder.PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<Void> response = client.send(login, HttpResponse.BodyHandlers.discarding());
+        return response.headers().firstValue("Set-Cookie")
+                .map(cookie -> cookie.split(";", 2)[0])
+                .orElseThrow(() -> new IllegalStateException("로그인 실패: " + response.statusCode()));
+    }
+
+    // 토큰 로그인 후 access 토큰 반환
+    private String issueToken(String baseUrl) throws Exception {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        String body = objectMapper.writeValueAsString(Map.of(
+                "email", BenchmarkDataSeeder.email(0),
+                "password", BenchmarkDataSeeder.PASSWORD));
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(login, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,29 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.CmcBoardProjectApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 기동.
+ * 벤치마크마다 독립된 인메모리 H2 를 사용하고, SQL 로그 등 측정에 영향을 주는 출력은 끈다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(CmcBoardProjectApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
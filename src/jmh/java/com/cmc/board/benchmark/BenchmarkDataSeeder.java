@@ -0,0 +1,128 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.bookmark.Bookmark;
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.category.Category;
+import com.cmc.board.category.CategoryRepository;
+import com.cmc.board.comment.Comment;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.post.Post;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.user.User;
+import com.cmc.board.user.UserRepository;
+import com.cmc.board.user.UserRole;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 데이터 적재. 지정한 규모만큼 유저/게시글/댓글/북마크를 청크 단위 트랜잭션으로 저장한다.
+ */
+public class BenchmarkDataSeeder {
+
+    public static final String PASSWORD = "bench1234";
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String encodedPassword;
+
+    public BenchmarkDataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.categoryRepository = context.getBean(CategoryRepository.class);
+        this.postRepository = context.getBean(PostRepository.class);
+        this.commentRepository = context.getBean(CommentRepository.class);
+        this.bookmarkRepository = context.getBean(BookmarkRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        // 해싱 비용이 적재 시간을 지배하지 않도록 한 번만 암호화해서 재사용
+        this.encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+    }
+
+    public static String email(int index) {
+        return "user" + index + "@bench.com";
+    }
+
+    public List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(email(i));
+            user.setPassword(encodedPassword);
+            user.setNickname("user" + i);
+            user.setUserRole(UserRole.USER);
+            user.setCreatedAt(LocalDateTime.now());
+            users.add(user);
+        }
+        return saveInChunks(users, userRepository::saveAll);
+    }
+
+    public Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+
+    // 작성자, 카테고리를 번갈아 가며 게시글 생성
+    public List<Long> posts(List<User> authors, List<Category> categories, int count) {
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Post post = new Post();
+            post.setTitle("게시글 제목 " + i);
+            post.setContent("게시글 본문 ".repeat(20) + i);
+            post.setUser(authors.get(i % authors.size()));
+            post.setCategory(categories.get(i % categories.size()));
+            post.setCreatedAt(LocalDateTime.now());
+            post.setUpdatedAt(LocalDateTime.now());
+            posts.add(post);
+        }
+        return saveInChunks(posts, postRepository::saveAll).stream().map(Post::getPostId).toList();
+    }
+
+    // 한 게시글에 최상위 댓글을 count 개 생성
+    public void comments(Long postId, List<User> authors, int count) {
+        Post post = postRepository.getReferenceById(postId);
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment();
+            comment.setContent("댓글 " + i);
+            comment.setUser(authors.get(i % authors.size()));
+            comment.setPost(post);
+            comment.setCreatedAt(LocalDateTime.now());
+            comment.setUpdatedAt(LocalDateTime.now());
+            comments.add(comment);
+        }
+        saveInChunks(comments, commentRepository::saveAll);
+        postRepository.reconcileCommentCounts();
+    }
+
+    public void bookmarks(User user, List<Long> postIds) {
+        List<Bookmark> bookmarks = new ArrayList<>();
+        for (Long postId : postIds) {
+            Bookmark bookmark = new Bookmark();
+            bookmark.setUser(user);
+            bookmark.setPost(postRepository.getReferenceById(postId));
+            bookmark.setCreatedAt(LocalDateTime.now());
+            bookmarks.add(bookmark);
+        }
+        saveInChunks(bookmarks, bookmarkRepository::saveAll);
+    }
+
+    private <T> List<T> saveInChunks(List<T> entities, java.util.function.Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saveAll.apply(chunk)));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.bookmark.BookmarkService;
+import com.cmc.board.category.Category;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 북마크를 많이 가진 유저의 북마크 목록 조회.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BookmarkServiceBenchmark {
+
+    @Param({"100", "5000"})
+    public int bookmarks;
+
+    private ConfigurableApplicationContext context;
+    private BookmarkService bookmarkService;
+    private String email;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookmarkService = context.getBean(BookmarkService.class);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> users = seeder.users(100);
+        List<Category> categories = List.of(seeder.category("공지"), seeder.category("자유"));
+        List<Long> postIds = seeder.posts(users, categories, bookmarks);
+
+        User powerUser = users.get(0);
+        seeder.bookmarks(powerUser, postIds);
+        email = powerUser.getEmail();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostResponse> findBookmarks() {
+        return bookmarkService.findBookmarks(email);
+    }
+}
@@ -0,0 +1,71 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.comment.CommentRequest;
+import com.cmc.board.comment.CommentService;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 insert 처리량 (초당 insert 수).
+ * single: 요청마다 createComment 를 한 번씩 호출 (댓글마다 트랜잭션, insert 왕복 1회)
+ * batch: createComments 로 rows 개를 한 트랜잭션에서 작성 (hibernate.jdbc.batch_size 단위로 묶어 전송)
+ * batchSize=1 은 JDBC 배치를 끈 상태로, IDENTITY 키를 쓰던 변경 전과 같은 insert 왕복 수가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentInsertBenchmark {
+
+    private static final int ROWS = 100;
+
+    @Param({"single", "batch"})
+    public String mode;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private CommentService commentService;
+    private List<CommentRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        commentService = context.getBean(CommentService.class);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> authors = seeder.users(1);
+        List<Category> categories = List.of(seeder.category("자유"));
+        List<Long> postIds = seeder.posts(authors, categories, 10);
+
+        // 여러 게시글에 나눠 작성 (게시글별 댓글 수 갱신도 함께 측정)
+        requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(new CommentRequest("댓글 " + i, postIds.get(i % postIds.size()), null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertComments() {
+        String email = BenchmarkDataSeeder.email(0);
+        if (mode.equals("batch")) {
+            commentService.createComments(requests, email);
+        } else {
+            for (CommentRequest request : requests) {
+                commentService.createComment(request, email);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.comment.CommentResponse;
+import com.cmc.board.comment.CommentService;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글이 많이 달린 게시글의 댓글 목록 조회.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    public int comments;
+
+    private ConfigurableApplicationContext context;
+    private CommentService commentService;
+    private Long hotPostId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        commentService = context.getBean(CommentService.class);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> authors = seeder.users(100);
+        List<Category> categories = List.of(seeder.category("자유"));
+        hotPostId = seeder.posts(authors, categories, 10).get(0);
+        seeder.comments(hotPostId, authors, comments);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CommentResponse> findPostComments() {
+        return commentService.findPostComments(hotPostId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트. 실제 포트로 기동한 서버에 동시에 concurrency 개의 목록 조회를 보내고, 모두 끝날 때까지의 시간을 잰다.
+ * 플랫폼 스레드(Tomcat 풀) / 가상 스레드 모드와 동시 처리 제한 사용 여부를 조합해 비교한다.
+ * 동시 처리 제한은 가상 스레드 모드에서만 켜지므로 플랫폼 스레드 모드의 두 조합은 같은 설정이다.
+ * 가상 스레드 모드는 Java 21 에서만 적용되므로 ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=ConcurrentReadLoadBenchmark 로 실행한다.
+ * 응답 결과는 ok(200), rejected(503), failed(그 외) 보조 지표로 함께 출력된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcurrentReadLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"true", "false"})
+    public boolean concurrencyLimit;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"5000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest listRequest;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Responses {
+        public long ok;
+        public long rejected;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "board.concurrency.limit.enabled=" + concurrencyLimit);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> authors = seeder.users(100);
+        List<Category> categories = List.of(seeder.category("자유"));
+        seeder.posts(authors, categories, posts);
+
+        clientExecutor = Executors.newFixedThreadPool(32);
+        client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        String session = login(baseUrl);
+
+        // 오프셋 기반 목록 조회: 요청마다 커넥션을 잡고 여러 행을 읽는 느린 조회
+        listRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/posts?page=10&size=50"))
+                .header("Cookie", session)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public void concurrentReads(Responses responses) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(client.sendAsync(listRequest, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode)
+                    .exceptionally(e -> -1));
+        }
+
+        for (CompletableFuture<Integer> future : futures) {
+            int status = future.join();
+            if (status == 200) {
+                responses.ok++;
+            } else if (status == 503) {
+                responses.rejected++;
+            } else {
+                responses.failed++;
+            }
+        }
+    }
+
+    // 폼 로그인 후 세션 쿠키 반환
+    private String login(String baseUrl) throws Exception {
+        String form = "email=" + URLEncoder.encode(BenchmarkDataSeeder.email(0), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(BenchmarkDataSeeder.PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.headers().firstValue("Set-Cookie")
+                .map(cookie -> cookie.split(";", 2)[0])
+                .orElseThrow(() -> new IllegalStateException("로그인 실패: " + response.statusCode()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.post.PostService;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 단건 조회. 조회가 소수 인기 게시글(hotPosts)에 몰리는 상황을 캐시 사용 여부별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FindPostBenchmark {
+
+    @Param({"10000"})
+    public int posts;
+
+    @Param({"100"})
+    public int hotPosts;
+
+    @Param({"true", "false"})
+    public boolean postCacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private List<Long> hotPostIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("board.cache.post.enabled=" + postCacheEnabled);
+        postService = context.getBean(PostService.class);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> authors = seeder.users(100);
+        List<Category> categories = List.of(seeder.category("자유"));
+        List<Long> postIds = seeder.posts(authors, categories, posts);
+        hotPostIds = postIds.subList(postIds.size() - Math.min(hotPosts, postIds.size()), postIds.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PostResponse findHotPost() {
+        Long postId = hotPostIds.get(ThreadLocalRandom.current().nextInt(hotPostIds.size()));
+        return postService.findPost(postId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.post.PostService;
+import com.cmc.board.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 조회: 첫 페이지와 마지막 근처 깊은 페이지를 오프셋/커서 방식으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    // 목록마다 북마크 여부를 표시할 로그인 유저 (게시글 10개 중 1개를 북마크)
+    private static final String READER = BenchmarkDataSeeder.email(0);
+
+    @Param({"10000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private int deepPage;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        postService = context.getBean(PostService.class);
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context);
+        List<User> authors = seeder.users(100);
+        List<Category> categories = List.of(seeder.category("공지"), seeder.category("자유"), seeder.category("질문"));
+        List<Long> postIds = seeder.posts(authors, categories, posts);
+        seeder.bookmarks(authors.get(0), postIds.stream().filter(id -> id % 10 == 0).toList());
+
+        // 마지막 페이지 바로 앞 (OFFSET 이 가장 큰 구간)
+        deepPage = posts / PAGE_SIZE - 1;
+        Long deepCursorId = Collections.min(postIds) + PAGE_SIZE * 2L;
+        deepCursor = CursorCodec.encode(deepCursorId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostResponse> findPostsShallowPage() {
+        return postService.findPosts(0, PAGE_SIZE, READER);
+    }
+
+    @Benchmark
+    public List<PostResponse> findPostsDeepPage() {
+        return postService.findPosts(deepPage, PAGE_SIZE, READER);
+    }
+
+    @Benchmark
+    public SliceResponse<PostResponse> findPostsBeforeFirstPage() {
+        return postService.findPostsBefore("", PAGE_SIZE, 100, READER);
+    }
+
+    @Benchmark
+    public SliceResponse<PostResponse> findPostsBeforeDeepPage() {
+        return postService.findPostsBefore(deepCursor, PAGE_SIZE, 100, READER);
+    }
+}
@@ -0,0 +1,42 @@
+package com.cmc.board.benchmark;
+
+import com.cmc.board.config.PrincipalDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 유저 조회 (users 테이블 규모별).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrincipalDetailsServiceBenchmark {
+
+    @Param({"10000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private PrincipalDetailsService principalDetailsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        principalDetailsService = context.getBean(PrincipalDetailsService.class);
+        new BenchmarkDataSeeder(context).users(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return principalDetailsService.loadUserByUsername(
+                BenchmarkDataSeeder.email(ThreadLocalRandom.current().nextInt(users)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.cmc.board.auth;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+@ConditionalOnProperty(name = "board.auth.mode", havingValue = "token")
+public class AuthController { // board.auth.mode=token 일 때만 사용 (session 모드는 POST /login 폼 로그인)
+
+    private final AuthService authService;
+
+    // 로그인: access/refresh 토큰 발급
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
+        return ResponseEntity.ok(authService.login(request));
+    }
+
+    // access 토큰 재발급
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+}
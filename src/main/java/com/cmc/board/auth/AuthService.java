@@ -0,0 +1,61 @@
+package com.cmc.board.auth;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.auth.mode", havingValue = "token")
+public class AuthService {
+
+    private final AuthenticationConfiguration authenticationConfiguration;
+    private final UserIdentityCache userIdentityCache;
+    private final TokenCodec tokenCodec;
+
+    // 폼 로그인과 같은 AuthenticationManager(PrincipalDetailsService + PasswordEncoder)로 확인한 뒤 토큰 발급
+    public TokenResponse login(LoginRequest request) {
+        try {
+            authenticationManager()
+                    .authenticate(UsernamePasswordAuthenticationToken.unauthenticated(request.getEmail(), request.getPassword()));
+        } catch (AuthenticationException e) {
+            // 없는 이메일인지, 비밀번호가 틀렸는지는 구분하지 않는다
+            throw new BusinessLogicException(ExceptionCode.LOGIN_FAILED);
+        }
+        // 로그인 시 PrincipalDetailsService 가 캐시를 채우므로 users 를 다시 조회하지 않는다
+        return issue(userIdentityCache.get(request.getEmail()));
+    }
+
+    // refresh 토큰으로 새 토큰 쌍 발급
+    // 식별 정보는 캐시(또는 DB)에서 다시 읽으므로 닉네임, 권한 변경이 반영되고 탈퇴한 유저는 USER_NOT_FOUND
+    // 탈퇴 후 같은 이메일로 다시 가입한 계정에는 예전 토큰을 쓸 수 없도록 userId 까지 확인한다
+    public TokenResponse refresh(RefreshRequest request) {
+        TokenClaims claims = tokenCodec.verify(request.getRefreshToken(), TokenClaims.Type.REFRESH);
+        UserIdentity identity = userIdentityCache.get(claims.getEmail());
+        if (!identity.getUserId().equals(claims.getUserId())) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+        return issue(identity);
+    }
+
+    private AuthenticationManager authenticationManager() {
+        try {
+            return authenticationConfiguration.getAuthenticationManager();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TokenResponse issue(UserIdentity identity) {
+        return new TokenResponse(tokenCodec.issueAccess(identity), tokenCodec.issueRefresh(identity),
+                tokenCodec.getAccessTtl().toSeconds());
+    }
+}
@@ -0,0 +1,15 @@
+package com.cmc.board.auth;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshRequest {
+    @NotNull
+    private String refreshToken;
+}
@@ -0,0 +1,37 @@
+package com.cmc.board.auth;
+
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 토큰에 서명해서 담는 정보. 요청마다 users 를 조회하지 않고 이것만으로 인증한다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenClaims {
+
+    public enum Type { ACCESS, REFRESH }
+
+    private Type type;
+
+    private Long userId;
+
+    private String email;
+
+    private String nickname;
+
+    private UserRole role;
+
+    // 만료 시각 (epoch seconds)
+    private long expiresAt;
+
+    public static TokenClaims of(Type type, UserIdentity identity, long expiresAt) {
+        return new TokenClaims(type, identity.getUserId(), identity.getEmail(), identity.getNickname(),
+                identity.getUserRole(), expiresAt);
+    }
+}
@@ -0,0 +1,125 @@
+package com.cmc.board.auth;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.user.UserIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 으로 서명한 토큰 발급/검증 ("base64url(JSON).base64url(서명)").
+ * 서버에는 세션도, 토큰 저장소도 없으므로 같은 secret 을 가진 어느 인스턴스에서든 검증할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.auth.mode", havingValue = "token")
+public class TokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    // Mac 은 스레드 안전하지 않으므로 스레드마다 하나씩 초기화해 둔다
+    private final ThreadLocal<Mac> macs;
+
+    public TokenCodec(ObjectMapper objectMapper,
+                      @Value("${board.auth.token.secret:}") String secret,
+                      @Value("${board.auth.token.access-ttl:15m}") Duration accessTtl,
+                      @Value("${board.auth.token.refresh-ttl:14d}") Duration refreshTtl) {
+        this.objectMapper = objectMapper;
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+
+        SecretKeySpec key = new SecretKeySpec(secretBytes(secret), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public String issueAccess(UserIdentity identity) {
+        return issue(TokenClaims.of(TokenClaims.Type.ACCESS, identity, expiresAt(accessTtl)));
+    }
+
+    public String issueRefresh(UserIdentity identity) {
+        return issue(TokenClaims.of(TokenClaims.Type.REFRESH, identity, expiresAt(refreshTtl)));
+    }
+
+    public Duration getAccessTtl() {
+        return accessTtl;
+    }
+
+    // 서명, 종류, 만료 시각을 확인하고 담긴 정보를 반환 (하나라도 맞지 않으면 INVALID_TOKEN)
+    public TokenClaims verify(String token, TokenClaims.Type type) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+        String payload = token.substring(0, dot);
+
+        TokenClaims claims;
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+            }
+            claims = objectMapper.readValue(DECODER.decode(payload), TokenClaims.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+
+        if (claims.getType() != type || claims.getExpiresAt() <= Instant.now().getEpochSecond()) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+        return claims;
+    }
+
+    private String issue(TokenClaims claims) {
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return payload + "." + ENCODER.encodeToString(sign(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return Instant.now().plus(ttl).getEpochSecond();
+    }
+
+    // 토큰 모드에서는 secret 이 반드시 있어야 한다 (인스턴스마다, 재시작마다 키가 달라지면 토큰이 모두 무효)
+    private static byte[] secretBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("board.auth.mode=token 이면 board.auth.token.secret 을 설정해야 합니다.");
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("board.auth.token.secret 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return bytes;
+    }
+}
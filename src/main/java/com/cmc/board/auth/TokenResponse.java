@@ -0,0 +1,13 @@
+package com.cmc.board.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+    private final String tokenType = "Bearer";
+    private final String accessToken;
+    private final String refreshToken;
+    private final long expiresIn; // access 토큰 유효 시간 (초)
+}
@@ -6,20 +6,39 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter @Setter
-@Table(name = "bookmarks")
+@Table(name = "bookmarks", uniqueConstraints = {
+        // 한 유저는 같은 게시글을 한 번만 북마크 (findByUserAndPost 조회도 이 인덱스를 사용)
+        @UniqueConstraint(name = Bookmark.UK_USER_POST, columnNames = {"userId", "postId"})
+}, indexes = {
+        // 기간 내 북마크 조회 (인기 점수 재계산)
+        @Index(name = "idx_bookmarks_created", columnList = "createdAt"),
+        // 유저의 북마크 목록을 최근 북마크 순으로 키셋 조회
+        @Index(name = "idx_bookmarks_user_created", columnList = "userId, createdAt, bookmarkId")
+})
 public class Bookmark {
 
+    public static final String UK_USER_POST = "uk_bookmarks_user_post";
+    public static final String FK_POST = "fk_bookmarks_post";
+
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 시퀀스에서 50개씩 미리 할당받는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmarks_seq")
+    @SequenceGenerator(name = "bookmarks_seq", sequenceName = "bookmarks_seq", allocationSize = 50)
     private Long bookmarkId;
 
+    @Column
+    private LocalDateTime createdAt;
+
     @ManyToOne
     @JoinColumn(name = "userId")
     private User user;
 
+    // 존재하지 않는 게시글 북마크(upsert)를 제약 조건 이름으로 판별
     @ManyToOne
-    @JoinColumn(name = "postId")
+    @JoinColumn(name = "postId", foreignKey = @ForeignKey(name = FK_POST))
     private Post post;
 }
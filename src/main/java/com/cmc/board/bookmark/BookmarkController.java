@@ -1,5 +1,6 @@
 package com.cmc.board.bookmark;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -13,21 +14,33 @@ public class BookmarkController {
 
     private final BookmarkService bookmarkService;
 
-    // 북마크 생성
-    @PostMapping("/posts/{post-id}/bookmarks")
+    // 북마크 생성 (PUT, POST 모두 멱등)
+    @RequestMapping(path = "/posts/{post-id}/bookmarks", method = {RequestMethod.PUT, RequestMethod.POST})
     public ResponseEntity postBookmark(@PathVariable("post-id") Long postId,
                                        @AuthenticationPrincipal UserDetails userDetails){
         bookmarkService.createBookmark(postId, userDetails.getUsername());
         return ResponseEntity.ok("북마크가 생성되었습니다.");
     }
 
-    // 북마크한 게시글 목록 조회
+    // 여러 게시글 북마크 (새로 북마크한 게시글 id 목록 반환)
+    @PostMapping("/bookmarks/batch")
+    public ResponseEntity postBookmarks(@Valid @RequestBody BookmarkBatchRequest request,
+                                        @AuthenticationPrincipal UserDetails userDetails){
+        return ResponseEntity.ok(bookmarkService.createBookmarks(request.getPostIds(), userDetails.getUsername()));
+    }
+
+    // 북마크한 게시글 목록 조회 (before 파라미터가 있으면 최근 북마크 순 커서 기반, 빈 값이면 첫 페이지)
     @GetMapping("/bookmarks")
-    public ResponseEntity getBookmarks(@AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity getBookmarks(@RequestParam(required = false) String before,
+                                       @RequestParam(defaultValue = "20") int size,
+                                       @AuthenticationPrincipal UserDetails userDetails){
+        if (before != null) {
+            return ResponseEntity.ok(bookmarkService.findBookmarksBefore(userDetails.getUsername(), before, size));
+        }
         return ResponseEntity.ok(bookmarkService.findBookmarks(userDetails.getUsername()));
     }
 
-    // 북마크 제거
+    // 북마크 제거 (북마크가 없어도 성공)
     @DeleteMapping("/posts/{post-id}/bookmarks")
     public ResponseEntity deleteBookmark(@PathVariable("post-id") Long postId,
                                          @AuthenticationPrincipal UserDetails userDetails){
@@ -0,0 +1,45 @@
+package com.cmc.board.bookmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 북마크 upsert. 게시글/유저 엔티티를 조회하지 않고 한 문장으로 "없으면 추가"한다.
+ * JPA 쿼리에서 제약 조건 위반이 나면 트랜잭션이 rollback-only 로 표시되므로,
+ * 위반을 잡아서 처리해야 하는 이 경로는 JdbcTemplate 으로 실행한다 (같은 트랜잭션, 같은 커넥션 사용).
+ */
+@Repository
+public class BookmarkJdbcRepository {
+
+    // H2 MERGE: (userId, postId) 행이 없을 때만 insert, 키는 엔티티와 같은 시퀀스에서 받는다
+    private static final String INSERT_IF_ABSENT_SQL =
+            "merge into bookmarks b " +
+            "using (select cast(? as bigint) as user_id, cast(? as bigint) as post_id) v " +
+            "on b.user_id = v.user_id and b.post_id = v.post_id " +
+            "when not matched then insert (bookmark_id, user_id, post_id, created_at) " +
+            "values (next value for bookmarks_seq, v.user_id, v.post_id, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookmarkJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 새로 추가했으면 1, 이미 있으면 0
+    public int insertIfAbsent(Long userId, Long postId, LocalDateTime createdAt) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, userId, postId, Timestamp.valueOf(createdAt));
+    }
+
+    // 여러 게시글을 한 번의 JDBC 배치로 upsert, 게시글마다 새로 추가했으면 1, 이미 있으면 0
+    public int[] insertAllIfAbsent(Long userId, List<Long> postIds, LocalDateTime createdAt) {
+        Timestamp at = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = postIds.stream()
+                .map(postId -> new Object[]{userId, postId, at})
+                .toList();
+        return jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows);
+    }
+}
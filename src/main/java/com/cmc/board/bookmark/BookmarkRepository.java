@@ -1,15 +1,73 @@
 package com.cmc.board.bookmark;
 
-import com.cmc.board.post.Post;
-import com.cmc.board.user.User;
+import com.cmc.board.post.PostActivityCount;
+import com.cmc.board.post.PostRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
-    List<Bookmark> findByUserOrderByBookmarkIdDesc(User user);
-    Optional<Bookmark> findByUserAndPost(User user, Post post);
+    // 북마크한 게시글과 그 작성자, 카테고리까지 한 번의 조인으로 가져온다 (N+1 방지)
+    @EntityGraph(attributePaths = {"user", "post", "post.user", "post.category"})
+    List<Bookmark> findByUserUserIdOrderByBookmarkIdDesc(Long userId);
+
+    // 커서(bookmarkedAt, bookmarkId) 이전의 북마크를 최근 북마크 순으로 조회
+    // 게시글, 작성자, 카테고리를 한 번에 조인해서 목록 컬럼만 가져온다 (idx_bookmarks_user_created 범위 탐색)
+    @Query("select b.bookmarkId as bookmarkId, b.createdAt as bookmarkedAt, " + PostRepository.SUMMARY_COLUMNS +
+            "from Bookmark b join b.post p join p.user u join p.category c " +
+            "where b.user.userId = :userId " +
+            "and (b.createdAt < :at or (b.createdAt = :at and b.bookmarkId < :before)) " +
+            "order by b.createdAt desc, b.bookmarkId desc")
+    Slice<BookmarkedPostSummary> findBookmarkedBefore(@Param("userId") Long userId,
+                                                      @Param("at") LocalDateTime at,
+                                                      @Param("before") Long before,
+                                                      @Param("previewLength") int previewLength,
+                                                      Pageable pageable);
+
+    // createdAt 컬럼 추가 전에 만들어진 북마크의 생성 시각을 채운다 (백필용, NULL 은 키셋 조건에 걸리지 않아 목록에서 빠진다)
+    // 북마크는 게시글보다 먼저 생길 수 없으므로 게시글 작성 시각을, 그것도 없으면 백필 시각을 쓴다
+    @Transactional
+    @Modifying
+    @Query("update Bookmark b set b.createdAt = coalesce(" +
+            "(select p.createdAt from Post p where p.postId = b.post.postId), local datetime) " +
+            "where b.createdAt is null")
+    int backfillCreatedAt();
+
+    // 유저의 북마크 게시글 id 전체 (uk_bookmarks_user_post 인덱스만 읽는다)
+    @Query("select b.post.postId from Bookmark b where b.user.userId = :userId order by b.post.postId")
+    List<Long> findAllPostIdsByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Bookmark b where b.post.postId in :postIds")
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 조회 없이 바로 삭제 (없으면 0)
+    @Transactional
+    @Modifying
+    @Query("delete from Bookmark b where b.user.userId = :userId and b.post.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Bookmark b where b.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 인기 점수 재계산용, 기간 내 생성된 북마크를 게시글, 시간 단위로 센다 (createdAt 인덱스 범위 탐색, 행마다 전송하지 않음)
+    @Query("select b.post.postId as postId, extract(date from b.createdAt) as bucketDate, " +
+            "extract(hour from b.createdAt) as bucketHour, count(b) as activityCount " +
+            "from Bookmark b where b.createdAt >= :since " +
+            "group by b.post.postId, extract(date from b.createdAt), extract(hour from b.createdAt)")
+    List<PostActivityCount> countActivitiesSince(@Param("since") LocalDateTime since);
 }
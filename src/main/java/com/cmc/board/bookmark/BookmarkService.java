@@ -1,67 +1,171 @@
 package com.cmc.board.bookmark;
 
 import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ConstraintViolations;
 import com.cmc.board.common.exception.ExceptionCode;
-import com.cmc.board.post.Post;
-import com.cmc.board.post.PostRepository;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.common.transaction.AfterCommit;
 import com.cmc.board.post.PostResponse;
-import com.cmc.board.user.User;
-import com.cmc.board.user.UserRepository;
+import com.cmc.board.trending.Activity;
+import com.cmc.board.trending.TrendingPosts;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class BookmarkService {
+    private static final int PREVIEW_LENGTH = 100;
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final BookmarkRepository bookmarkRepository;
-    private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final BookmarkJdbcRepository bookmarkJdbcRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final TrendingPosts trendingPosts;
+    private final BookmarkedPosts bookmarkedPosts;
 
+    // 북마크 추가 (멱등: 이미 북마크했어도 성공, 동시에 여러 번 요청해도 한 행만 생긴다)
     public void createBookmark(Long postId, String email){
-        // 게시글 찾기
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
+        // 유저는 캐시된 식별 정보로 찾고, 게시글 존재 여부는 FK 로 확인 (사전 조회 없음)
+        UserIdentity user = userIdentityCache.get(email);
 
-        // 유저 찾기
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        if (insertIfAbsent(user.getUserId(), postId, LocalDateTime.now())) {
+            AfterCommit.run(() -> {
+                bookmarkedPosts.add(user.getUserId(), postId);
+                trendingPosts.record(postId, Activity.BOOKMARK, 1);
+            });
+        }
+    }
+
+    // 여러 게시글을 한 번에 북마크 (이미 북마크한 게시글은 건너뛰고, 새로 북마크한 게시글 id 를 반환)
+    // 단건과 같은 upsert 를 한 번의 JDBC 배치로 실행한다
+    // 같은 게시글을 동시에 북마크한 요청과 겹쳐 배치가 유니크 제약에 걸리면, 배치에서 처리되지 않은 행만 단건으로 다시 실행한다
+    // 없는 게시글이 섞여 있으면 POST_NOT_FOUND 로 트랜잭션 전체를 되돌린다
+    public List<Long> createBookmarks(List<Long> postIds, String email){
+        UserIdentity user = userIdentityCache.get(email);
 
-        Bookmark bookmark = new Bookmark();
-        bookmark.setPost(post);
-        bookmark.setUser(user);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(postIds));
+        int[] counts;
+        try {
+            counts = bookmarkJdbcRepository.insertAllIfAbsent(user.getUserId(), targets, now);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, Bookmark.FK_POST)) {
+                throw new BusinessLogicException(ExceptionCode.POST_NOT_FOUND);
+            }
+            if (!ConstraintViolations.isViolated(e, Bookmark.UK_USER_POST)) {
+                throw e;
+            }
+            counts = batchCounts(e, targets.size());
+        }
 
-        bookmarkRepository.save(bookmark);
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Long postId = targets.get(i);
+            boolean inserted = counts[i] == Statement.EXECUTE_FAILED
+                    ? insertIfAbsent(user.getUserId(), postId, now) // 배치에서 실패한 행만 단건으로 (MERGE 라 다시 실행해도 중복되지 않음)
+                    : counts[i] > 0;
+            if (inserted) {
+                created.add(postId);
+            }
+        }
+
+        AfterCommit.run(() -> created.forEach(postId -> {
+            bookmarkedPosts.add(user.getUserId(), postId);
+            trendingPosts.record(postId, Activity.BOOKMARK, 1);
+        }));
+        return created;
     }
 
+    @Transactional(readOnly = true)
     public List<PostResponse> findBookmarks(String email){
         // 유저 찾기
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserIdentity user = userIdentityCache.get(email);
 
         // 유저의 북마크 찾기
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserOrderByBookmarkIdDesc(user);
+        List<Bookmark> bookmarks = bookmarkRepository.findByUserUserIdOrderByBookmarkIdDesc(user.getUserId());
 
         return bookmarks.stream()
                 .map(bookmark -> new PostResponse(bookmark.getPost()))
                 .collect(Collectors.toList());
     }
 
-    public void removeBookmark(Long postId, String email){
-        // 게시글 찾기
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
+    @Transactional(readOnly = true)
+    public SliceResponse<BookmarkedPostResponse> findBookmarksBefore(String email, String before, int size){
+        UserIdentity user = userIdentityCache.get(email);
 
-        // 유저 찾기
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 커서는 (북마크한 시각의 epoch 마이크로초, bookmarkId), 없으면 가장 최근부터
+        LocalDateTime at = LATEST;
+        long cursor = Long.MAX_VALUE;
+        if (before != null && !before.isBlank()) {
+            long[] keys = CursorCodec.decode(before, 2);
+            at = EPOCH.plus(keys[0], ChronoUnit.MICROS);
+            cursor = keys[1];
+        }
+
+        Slice<BookmarkedPostResponse> slice = bookmarkRepository
+                .findBookmarkedBefore(user.getUserId(), at, cursor, PREVIEW_LENGTH, CursorCodec.limit(size))
+                .map(BookmarkedPostResponse::new);
 
-        // 해당 유저의 해당 게시글에 대한 북마크 찾기
-        Bookmark bookmark = bookmarkRepository.findByUserAndPost(user, post)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.BOOKMARK_NOT_FOUND));
+        return SliceResponse.of(slice, bookmark -> CursorCodec.encode(
+                ChronoUnit.MICROS.between(EPOCH, bookmark.getBookmarkedAt()), bookmark.getBookmarkId()));
+    }
+
+    // 실패한 배치에서 행마다 처리 결과 (드라이버가 실패 후 나머지를 실행하지 않았거나 결과를 알 수 없으면 실패로 보고 다시 실행)
+    private static int[] batchCounts(DataIntegrityViolationException e, int size) {
+        int[] counts = new int[size];
+        Arrays.fill(counts, Statement.EXECUTE_FAILED);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batch && batch.getUpdateCounts() != null) {
+                int[] processed = batch.getUpdateCounts();
+                System.arraycopy(processed, 0, counts, 0, Math.min(processed.length, size));
+                break;
+            }
+        }
+        return counts;
+    }
+
+    // 새로 추가했으면 true, 이미 있거나 동시에 들어온 같은 요청이 먼저 추가했으면 false
+    private boolean insertIfAbsent(Long userId, Long postId, LocalDateTime createdAt){
+        try {
+            return bookmarkJdbcRepository.insertIfAbsent(userId, postId, createdAt) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // 게시글 존재 여부는 FK 로 확인 (사전 조회 없음)
+            if (ConstraintViolations.isViolated(e, Bookmark.FK_POST)) {
+                throw new BusinessLogicException(ExceptionCode.POST_NOT_FOUND);
+            }
+            if (ConstraintViolations.isViolated(e, Bookmark.UK_USER_POST)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // 북마크 제거 (멱등: 북마크가 없어도 성공)
+    public void removeBookmark(Long postId, String email){
+        UserIdentity user = userIdentityCache.get(email);
 
-        bookmarkRepository.delete(bookmark);
+        // 조회 없이 (userId, postId) 유니크 인덱스로 바로 삭제
+        if (bookmarkRepository.deleteByUserIdAndPostId(user.getUserId(), postId) > 0) {
+            AfterCommit.run(() -> bookmarkedPosts.remove(user.getUserId(), postId));
+        }
     }
 }
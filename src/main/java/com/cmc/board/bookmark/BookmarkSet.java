@@ -0,0 +1,57 @@
+package com.cmc.board.bookmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 유저가 북마크한 게시글 id 집합.
+ * 정렬된 long 배열 하나로 보관해서 (게시글 1개당 8바이트) 박싱된 Set 보다 훨씬 작고,
+ * 포함 여부는 이진 탐색으로 확인한다. 불변이며 추가/제거는 복사본을 만든다.
+ */
+public final class BookmarkSet {
+
+    public static final BookmarkSet EMPTY = new BookmarkSet(new long[0]);
+
+    private final long[] postIds;
+
+    private BookmarkSet(long[] postIds) {
+        this.postIds = postIds;
+    }
+
+    public static BookmarkSet of(Collection<Long> postIds) {
+        long[] sorted = postIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new BookmarkSet(sorted);
+    }
+
+    public boolean contains(long postId) {
+        return Arrays.binarySearch(postIds, postId) >= 0;
+    }
+
+    public int size() {
+        return postIds.length;
+    }
+
+    public BookmarkSet with(long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[postIds.length + 1];
+        System.arraycopy(postIds, 0, copy, 0, insertAt);
+        copy[insertAt] = postId;
+        System.arraycopy(postIds, insertAt, copy, insertAt + 1, postIds.length - insertAt);
+        return new BookmarkSet(copy);
+    }
+
+    public BookmarkSet without(long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index < 0) {
+            return this;
+        }
+        long[] copy = new long[postIds.length - 1];
+        System.arraycopy(postIds, 0, copy, 0, index);
+        System.arraycopy(postIds, index + 1, copy, index, postIds.length - index - 1);
+        return new BookmarkSet(copy);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cmc.board.bookmark;
+
+import com.cmc.board.post.PostResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 북마크 목록 응답: 게시글 목록 응답 + 북마크 정보
+@Getter
+public class BookmarkedPostResponse extends PostResponse {
+
+    private final Long bookmarkId;
+
+    private final LocalDateTime bookmarkedAt;
+
+    public BookmarkedPostResponse(BookmarkedPostSummary summary){
+        super(summary);
+        this.bookmarkId = summary.getBookmarkId();
+        this.bookmarkedAt = summary.getBookmarkedAt();
+        setBookmarked(true);
+    }
+}
@@ -0,0 +1,15 @@
+package com.cmc.board.bookmark;
+
+import com.cmc.board.post.PostSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 목록용 프로젝션. 게시글 목록 컬럼에 북마크 id, 북마크한 시각(커서 키)을 더한다.
+ */
+public interface BookmarkedPostSummary extends PostSummary {
+
+    Long getBookmarkId();
+
+    LocalDateTime getBookmarkedAt();
+}
@@ -0,0 +1,103 @@
+package com.cmc.board.bookmark;
+
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 북마크 게시글 집합 캐시 (목록 응답의 isBookmarked 표시용).
+ * 처음 필요할 때 유저의 북마크 게시글 id 를 한 번에 읽어 두고, 이후 목록은 행마다 조회하지 않고 집합에서 확인한다.
+ * 북마크 추가/제거는 커밋 후 캐시된 집합에 바로 반영하고, 캐시에 없는 유저는 다음 조회 때 다시 읽는다.
+ * 집합은 조회가 계속되어도 읽은 시점부터 ttl 이 지나면 다시 읽는다.
+ * 크기는 유저 수가 아니라 보관 중인 게시글 id 수(maximum-weight)로 제한한다.
+ * 삭제된 게시글 id 가 남아 있어도 목록에 나오지 않으므로 결과에는 영향이 없다.
+ * 지표: cache.gets{result=hit|miss}, cache.evictions (cache=bookmarks)
+ */
+@Component
+public class BookmarkedPosts {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, BookmarkSet> cache;
+    // 유저별 북마크 버전 (목록 ETag 용), 전역 순번에서 받으므로 항목이 만료된 뒤 다시 만들어도 예전 값과 겹치지 않는다
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> versions;
+
+    public BookmarkedPosts(BookmarkRepository bookmarkRepository,
+                           PrimaryReads primaryReads,
+                           @Value("${board.cache.bookmarks.maximum-weight:1000000}") long maximumWeight,
+                           @Value("${board.cache.bookmarks.ttl:10m}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long userId, BookmarkSet bookmarks) -> bookmarks.size() + 1)
+                .expireAfter(expireAfterLoad(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bookmarks");
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumWeight)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    public BookmarkSet get(Long userId) {
+        return cache.get(userId, id -> {
+            BookmarkSet bookmarks = primaryReads.read(() -> BookmarkSet.of(bookmarkRepository.findAllPostIdsByUserId(id)));
+            versions.put(id, sequence.incrementAndGet()); // 다시 읽은 집합은 이전과 다를 수 있다
+            return bookmarks;
+        });
+    }
+
+    // 북마크 상태가 바뀔 때마다 달라지는 값
+    public long version(Long userId) {
+        return versions.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    // 캐시된 유저만 갱신 (로딩 중이면 로딩이 끝난 뒤 반영된다)
+    public void add(Long userId, Long postId) {
+        cache.asMap().computeIfPresent(userId, (id, bookmarks) -> bookmarks.with(postId));
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    public void remove(Long userId, Long postId) {
+        cache.asMap().computeIfPresent(userId, (id, bookmarks) -> bookmarks.without(postId));
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        versions.invalidate(userId);
+    }
+
+    // 조회나 추가/제거로 연장하지 않고 로딩한 시점부터 ttl 후 만료
+    // 로딩 시점의 집합이 틀렸더라도 (예: 복제 지연) 계속 조회하는 유저에게 ttl 보다 오래 남지 않는다
+    private static Expiry<Long, BookmarkSet> expireAfterLoad(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long userId, BookmarkSet bookmarks, long currentTime) {
+                return ttl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(Long userId, BookmarkSet bookmarks, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long userId, BookmarkSet bookmarks, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
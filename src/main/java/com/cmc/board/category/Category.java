@@ -6,9 +6,13 @@ import lombok.Setter;
 
 @Entity
 @Setter @Getter
-@Table(name = "categories")
+@Table(name = "categories", uniqueConstraints = {
+        @UniqueConstraint(name = Category.UK_NAME, columnNames = "name")
+})
 public class Category {
 
+    public static final String UK_NAME = "uk_categories_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long categoryId;
@@ -0,0 +1,104 @@
+package com.cmc.board.category;
+
+import com.cmc.board.common.transaction.PrimaryReads;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 목록의 불변 스냅샷 (read-through).
+ * 카테고리는 거의 바뀌지 않으므로 목록 조회와 게시글 작성 시 카테고리 검증을 DB 없이 처리하고,
+ * 카테고리 생성/삭제 시에만 스냅샷을 다시 만든다.
+ * 반환되는 Category 는 스냅샷 전용 복사본이므로 수정하면 안 된다.
+ */
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final PrimaryReads primaryReads;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public CategoryCache(CategoryRepository categoryRepository, PrimaryReads primaryReads, MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.primaryReads = primaryReads;
+        FunctionCounter.builder("board.cache.category.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("board.cache.category.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    // 이름 오름차순 전체 목록
+    public List<Category> findAll() {
+        (snapshot != null ? hits : misses).incrementAndGet();
+        return current().ordered();
+    }
+
+    public Optional<Category> find(Long categoryId) {
+        boolean loaded = snapshot != null;
+        Category category = current().byId().get(categoryId);
+        if (category != null) {
+            (loaded ? hits : misses).incrementAndGet();
+            return Optional.of(category);
+        }
+
+        // 다른 인스턴스에서 생성된 카테고리일 수 있으므로 PK 로 한 번 확인하고, 있으면 스냅샷을 갱신
+        misses.incrementAndGet();
+        Optional<Category> found = primaryReads.read(() -> categoryRepository.findById(categoryId));
+        found.ifPresent(c -> refresh());
+        return found.map(CategoryCache::copyOf);
+    }
+
+    // 카테고리 생성/삭제 후 호출 (스냅샷은 primary 에서 읽는다)
+    public void refresh() {
+        List<Category> ordered = primaryReads.read(() -> categoryRepository.findAllByOrderByNameAsc().stream()
+                .map(CategoryCache::copyOf)
+                .toList());
+        Map<Long, Category> byId = ordered.stream()
+                .collect(Collectors.toUnmodifiableMap(Category::getCategoryId, Function.identity()));
+        snapshot = new Snapshot(ordered, byId);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        }
+    }
+
+    // 영속성 컨텍스트에 있는 엔티티와 인스턴스를 공유하지 않도록 복사
+    private static Category copyOf(Category category) {
+        Category copy = new Category();
+        copy.setCategoryId(category.getCategoryId());
+        copy.setName(category.getName());
+        return copy;
+    }
+
+    private record Snapshot(List<Category> ordered, Map<Long, Category> byId) {
+    }
+}
@@ -1,33 +1,49 @@
 package com.cmc.board.category;
 
 import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ConstraintViolations;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.transaction.AfterCommit;
 import com.cmc.board.post.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
+    private final CategoryCache categoryCache;
 
     public Category createCategory(CategoryRequest request){
-        // 카테고리 이름 중복 확인
-        if(categoryRepository.existsByName(request.getName())){
-            throw new BusinessLogicException(ExceptionCode.CATEGORY_DUPLICATION);
-        }
-
         Category category = new Category();
         category.setName(request.getName());
 
-        return categoryRepository.save(category);
+        // 카테고리 이름 중복은 유니크 제약 조건으로 판단
+        Category saved;
+        try {
+            saved = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, Category.UK_NAME)) {
+                throw new BusinessLogicException(ExceptionCode.CATEGORY_DUPLICATION);
+            }
+            throw e;
+        }
+
+        // 커밋 후 카테고리 스냅샷 갱신
+        AfterCommit.run(categoryCache::refresh);
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Category> findCategories(){
-        return  categoryRepository.findAllByOrderByNameAsc();
+        // DB 조회 없이 스냅샷에서 반환
+        return categoryCache.findAll();
     }
 
     public void removeCategory(Long categoryId){
@@ -41,5 +57,8 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+
+        // 커밋 후 카테고리 스냅샷 갱신
+        AfterCommit.run(categoryCache::refresh);
     }
 }
@@ -5,18 +5,35 @@ import com.cmc.board.user.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Entity
 @Getter @Setter
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글의 최상위 댓글(parentId IS NULL)을 commentId 역순으로 범위 탐색
+        @Index(name = "idx_comments_post_parent_comment", columnList = "postId, parentId, commentId"),
+        // 대댓글 목록 조회
+        @Index(name = "idx_comments_parent", columnList = "parentId"),
+        // 기간 내 댓글 조회 (인기 점수 재계산)
+        @Index(name = "idx_comments_created", columnList = "createdAt"),
+        // 스레드(서브트리) 조회: 게시글 안에서 path 접두사 범위 탐색
+        @Index(name = "idx_comments_post_path", columnList = "postId, path")
+})
 public class Comment {
 
+    public static final String ROOT_PATH = "/";
+    // 대댓글 최대 깊이: path 는 깊이마다 20자씩 늘어나므로 (1 + 20 * 100 = 2001자) path 컬럼 길이 안에 들어가도록 제한한다
+    public static final int MAX_DEPTH = 100;
+
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 시퀀스에서 50개씩 미리 할당받는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long commentId;
 
     @Column(nullable = false)
@@ -28,6 +45,22 @@ public class Comment {
     @Column
     private LocalDateTime updatedAt;
 
+    // 대댓글 수 (children 컬렉션을 초기화하지 않도록 비정규화)
+    // CommentRepository 의 UPDATE 문으로만 증감한다 (댓글 수정 시 로딩한 값으로 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int childCount;
+
+    // 조상 댓글 id 경로 (materialized path), 최상위 댓글은 "/", 대댓글은 "/0000000000000000012/" 처럼 조상 id 를 19자리로 채워 이어 붙인다
+    // id 를 같은 길이로 채워서 문자열 정렬과 접두사(LIKE 'path%') 비교가 트리 구조와 일치한다
+    @Column(length = 2048)
+    private String path;
+
+    // 최상위 댓글 0, 대댓글 1, ...
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth;
+
     @ManyToOne
     @JoinColumn(name = "userId")
     private User user;
@@ -42,4 +75,37 @@ public class Comment {
 
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Comment> children = new ArrayList<>(); // 댓글 삭제 시 대댓글도 삭제
-}
\ No newline at end of file
+
+    // 이 댓글에 달리는 대댓글의 path (= 이 댓글의 서브트리 접두사)
+    public String childPath() {
+        return childPath(path == null ? ROOT_PATH : path, commentId);
+    }
+
+    public static String childPath(String path, Long commentId) {
+        return path + String.format("%019d", commentId) + "/";
+    }
+
+    // path 의 조상 id 들 ("/0000000000000000012/0000000000000000015/" -> [12, 15])
+    public static long[] ancestorIds(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(id -> !id.isEmpty())
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+
+    // 조상 id 앞에서 count 개로 path 를 만든다 (ancestorIds 의 역)
+    public static String path(long[] ancestorIds, int count) {
+        String path = ROOT_PATH;
+        for (int i = 0; i < count; i++) {
+            path = childPath(path, ancestorIds[i]);
+        }
+        return path;
+    }
+
+    // 부모 댓글 아래에 붙이고 path, depth 를 채운다 (parent 가 null 이면 최상위 댓글)
+    public void attachTo(Comment parent) {
+        this.parent = parent;
+        this.path = parent == null ? ROOT_PATH : parent.childPath();
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+}
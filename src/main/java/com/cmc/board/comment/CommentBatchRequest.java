@@ -0,0 +1,24 @@
+package com.cmc.board.comment;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBatchRequest {
+
+    public static final int MAX_SIZE = 100;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<CommentRequest> comments;
+}
@@ -1,11 +1,16 @@
 package com.cmc.board.comment;
 
+import com.cmc.board.common.http.ResourceVersion;
+import com.cmc.board.common.pagination.SliceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,16 +26,65 @@ public class CommentController {
         return ResponseEntity.ok(commentService.createComment(request, userDetails.getUsername()));
     }
 
-    // 특정 게시글의 댓글 목록 조회
+    // 댓글 여러 개 생성 (한 요청, 한 트랜잭션)
+    @PostMapping("/comments/batch")
+    public ResponseEntity postComments(@Valid @RequestBody CommentBatchRequest request,
+                                       @AuthenticationPrincipal UserDetails userDetails){
+        return ResponseEntity.ok(commentService.createComments(request.getComments(), userDetails.getUsername()));
+    }
+
+    // 특정 게시글의 댓글 목록 조회 (before 파라미터가 있으면 최상위 댓글만 커서 기반으로 조회)
+    // 댓글 목록 버전이 그대로면(If-None-Match / If-Modified-Since) 댓글을 조회하지 않고 304
+    // 조건부 요청이 아니면 버전을 따로 조회하지 않고, 캐시된 게시글로 ETag 를 만든다
     @GetMapping("/posts/{post-id}/comments")
-    public ResponseEntity getPostComments(@PathVariable("post-id") Long postId){
-        return ResponseEntity.ok(commentService.findPostComments(postId));
+    public ResponseEntity getPostComments(@PathVariable("post-id") Long postId,
+                                          @RequestParam(required = false) String before,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          WebRequest webRequest){
+        boolean conditional = ResourceVersion.isConditional(webRequest);
+        if (conditional && commentService.findCommentsVersion(postId).notModified(webRequest)) {
+            return null;
+        }
+        Object comments = before != null
+                ? commentService.findPostCommentsBefore(postId, before, size)
+                : commentService.findPostComments(postId);
+        // 조건부 요청이면 ETag, Last-Modified 는 위에서 붙었다
+        return conditional ? ResponseEntity.ok(comments) : commentService.cachedCommentsVersion(postId).ok(comments);
+    }
+
+    // 게시글의 댓글 스레드를 트리로 조회 (root 가 있으면 그 댓글부터, depth 는 몇 단계 아래까지인지)
+    // 댓글이 많으면 잘라서 응답하고 nextCursor 를 after 로 넘기면 이어서 조회한다
+    @GetMapping("/posts/{post-id}/comments/tree")
+    public ResponseEntity getCommentTree(@PathVariable("post-id") Long postId,
+                                         @RequestParam(required = false) Long root,
+                                         @RequestParam(required = false) Integer depth,
+                                         @RequestParam(required = false) String after,
+                                         WebRequest webRequest){
+        boolean conditional = ResourceVersion.isConditional(webRequest);
+        if (conditional && commentService.findCommentsVersion(postId).notModified(webRequest)) {
+            return null;
+        }
+        SliceResponse<CommentTreeResponse> tree = commentService.findCommentTree(postId, root, depth, after);
+        return conditional ? ResponseEntity.ok(tree) : commentService.cachedCommentsVersion(postId).ok(tree);
     }
 
-    // 특정 댓글의 대댓글 목록 조회
+    // 특정 댓글의 대댓글 목록 조회 (before 파라미터가 있으면 커서 기반)
     @GetMapping("comments/{comment-id}")
-    public ResponseEntity getCommentComments(@PathVariable("comment-id") Long commentId){
-        return ResponseEntity.ok(commentService.findChildComments(commentId));
+    public ResponseEntity getCommentComments(@PathVariable("comment-id") Long commentId,
+                                             @RequestParam(required = false) String before,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             WebRequest webRequest){
+        boolean conditional = ResourceVersion.isConditional(webRequest);
+        if (conditional && commentService.findRepliesVersion(commentId).notModified(webRequest)) {
+            return null;
+        }
+        if (before != null) {
+            SliceResponse<CommentResponse> replies = commentService.findChildCommentsBefore(commentId, before, size);
+            return conditional ? ResponseEntity.ok(replies)
+                    : commentService.cachedRepliesVersion(commentId, replies.getContent()).ok(replies);
+        }
+        List<CommentResponse> replies = commentService.findChildComments(commentId);
+        return conditional ? ResponseEntity.ok(replies) : commentService.cachedRepliesVersion(commentId, replies).ok(replies);
     }
 
     // 댓글 수정
@@ -0,0 +1,28 @@
+package com.cmc.board.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드(트리) 조회용 프로젝션. 트리를 조립하는 데 필요한 부모 id 와 화면에 보일 컬럼만 읽는다.
+ */
+public interface CommentNode {
+
+    Long getCommentId();
+
+    Long getParentId();
+
+    // 이어서 조회할 커서를 만드는 데 사용
+    String getPath();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getNickname();
+
+    Integer getChildCount();
+
+    Integer getDepth();
+}
@@ -0,0 +1,13 @@
+package com.cmc.board.comment;
+
+// path 백필용 프로젝션: path 를 채울 댓글과 그 부모의 path
+public interface CommentPathSeed {
+
+    Long getCommentId();
+
+    Long getParentId();
+
+    String getParentPath();
+
+    Integer getParentDepth();
+}
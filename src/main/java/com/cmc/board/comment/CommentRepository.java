@@ -1,12 +1,134 @@
 package com.cmc.board.comment;
 
+import com.cmc.board.post.PostActivityCount;
+import com.cmc.board.post.PostVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPostPostIdOrderByCommentIdDesc(Long postId);
     List<Comment> findByParentCommentIdOrderByCommentIdDesc(Long parentId);
+
+    // 게시글의 최상위 댓글만 커서(commentId) 이전부터 최신순으로 조회 (count 쿼리 없음)
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.post.postId = :postId and c.parent is null and c.commentId < :before " +
+            "order by c.commentId desc")
+    Slice<Comment> findTopLevelBefore(@Param("postId") Long postId,
+                                      @Param("before") Long before,
+                                      Pageable pageable);
+
+    // 특정 댓글의 대댓글을 커서(commentId) 이전부터 최신순으로 조회 (count 쿼리 없음)
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.parent.commentId = :parentId and c.commentId < :before " +
+            "order by c.commentId desc")
+    Slice<Comment> findChildrenBefore(@Param("parentId") Long parentId,
+                                      @Param("before") Long before,
+                                      Pageable pageable);
+
+    // 게시글 안에서 path 가 prefix 로 시작하는 댓글(서브트리)을 depth 까지 한 번의 범위 탐색으로 조회
+    // path 순서는 부모가 항상 자식보다 앞이므로 읽는 순서대로 트리를 조립할 수 있다
+    // (path, commentId) 가 (afterPath, afterId) 보다 뒤인 댓글부터 읽는다 (키셋, 첫 페이지는 afterPath = "")
+    @Query("select c.commentId as commentId, c.parent.commentId as parentId, c.path as path, c.content as content, " +
+            "c.createdAt as createdAt, c.updatedAt as updatedAt, u.nickname as nickname, " +
+            "c.childCount as childCount, c.depth as depth " +
+            "from Comment c join c.user u " +
+            "where c.post.postId = :postId and c.path like :prefix and c.depth <= :maxDepth " +
+            "and (c.path > :afterPath or (c.path = :afterPath and c.commentId > :afterId)) " +
+            "order by c.path, c.commentId")
+    Slice<CommentNode> findSubtree(@Param("postId") Long postId,
+                                   @Param("prefix") String prefix,
+                                   @Param("maxDepth") int maxDepth,
+                                   @Param("afterPath") String afterPath,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    // path 백필용: path 가 없는 댓글 중 부모의 path 가 정해진 댓글 (부모 id 와 부모 path)
+    @Query("select c.commentId as commentId, p.commentId as parentId, p.path as parentPath, p.depth as parentDepth " +
+            "from Comment c join c.parent p where c.path is null and p.path is not null")
+    List<CommentPathSeed> findPathSeeds(Pageable pageable);
+
+    // path 백필용: 최상위 댓글
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.path = '" + Comment.ROOT_PATH + "', c.depth = 0 where c.parent is null and c.path is null")
+    int backfillRootPaths();
+
+    // 조건부 GET 용: 댓글이 속한 게시글의 버전
+    @Query("select p.postId as postId, p.updatedAt as updatedAt, p.commentCount as commentCount, " +
+            "p.lastCommentAt as lastCommentAt from Comment c join c.post p where c.commentId = :commentId")
+    Optional<PostVersion> findPostVersionByCommentId(@Param("commentId") Long commentId);
+
+    // 인기 점수 재계산용, 기간 내 작성된 댓글을 게시글, 시간 단위로 센다 (createdAt 인덱스 범위 탐색, 행마다 전송하지 않음)
+    @Query("select c.post.postId as postId, extract(date from c.createdAt) as bucketDate, " +
+            "extract(hour from c.createdAt) as bucketHour, count(c) as activityCount " +
+            "from Comment c where c.createdAt >= :since and c.post is not null " +
+            "group by c.post.postId, extract(date from c.createdAt), extract(hour from c.createdAt)")
+    List<PostActivityCount> countActivitiesSince(@Param("since") LocalDateTime since);
+
+    // 검색 색인 재구성용, commentId 오름차순으로 본문만 읽는다
+    @Query("select c.commentId as commentId, c.post.postId as postId, c.content as content from Comment c " +
+            "where c.commentId > :after order by c.commentId")
+    Slice<CommentText> findTextsAfter(@Param("after") Long after, Pageable pageable);
+
+    long countByUserUserId(Long userId);
+
+    // 회원 탈퇴 시 청크 단위 삭제용, 작성한 댓글 id 를 오름차순으로
+    @Query("select c.commentId from Comment c where c.user.userId = :userId order by c.commentId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select c.commentId from Comment c where c.post.postId in :postIds")
+    List<Long> findIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select c.commentId from Comment c where c.parent.commentId in :parentIds")
+    List<Long> findChildIds(@Param("parentIds") Collection<Long> parentIds);
+
+    @Query("select distinct c.post.postId from Comment c where c.commentId in :commentIds")
+    List<Long> findPostIdsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select distinct c.parent.commentId from Comment c where c.commentId in :commentIds")
+    List<Long> findParentIdsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 함께 삭제되는 댓글끼리의 부모 참조를 먼저 끊어서, 삭제 순서와 상관없이 FK 위반이 없게 한다
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.parent = null where c.commentId in :commentIds")
+    int detachParents(@Param("commentIds") Collection<Long> commentIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Comment c where c.commentId in :commentIds")
+    int deleteByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 대댓글 수를 한 번의 UPDATE 로 원자적으로 증감
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.childCount = c.childCount + :delta where c.commentId = :commentId")
+    int addChildCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    // 실제 대댓글 수로 전체 재계산 (백필/정합성 복구용)
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.childCount = " +
+            "(select count(ch) from Comment ch where ch.parent.commentId = c.commentId)")
+    int reconcileChildCounts();
+
+    // 지정한 댓글만 실제 대댓글 수로 재계산 (대댓글 일괄 삭제 후)
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.childCount = " +
+            "(select count(ch) from Comment ch where ch.parent.commentId = c.commentId) " +
+            "where c.commentId in :commentIds")
+    int reconcileChildCounts(@Param("commentIds") Collection<Long> commentIds);
 }
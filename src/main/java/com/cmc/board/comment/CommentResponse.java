@@ -18,13 +18,18 @@ public class CommentResponse {
     private int childCount;
 
     public CommentResponse(Comment comment){
+        this(comment, comment.getUser().getNickname());
+    }
+
+    // 작성자를 프록시(참조)로만 가진 댓글용: 닉네임을 따로 받아 프록시 초기화를 피한다
+    public CommentResponse(Comment comment, String user){
         this.commentId = comment.getCommentId();
         this.content = comment.getContent();
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
-        this.user = comment.getUser().getNickname();
+        this.user = user;
         if(comment.getPost() != null) this.postId = comment.getPost().getPostId();
         if(comment.getParent() != null) this.parentId = comment.getParent().getCommentId();
-        this.childCount = comment.getChildren().size();
+        this.childCount = comment.getChildCount();
     }
 }
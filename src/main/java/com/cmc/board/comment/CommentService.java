@@ -2,30 +2,64 @@ package com.cmc.board.comment;
 
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.http.ResourceVersion;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.common.transaction.AfterCommit;
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.post.FeedVersion;
 import com.cmc.board.post.Post;
+import com.cmc.board.post.PostCache;
 import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.post.PostVersion;
+import com.cmc.board.search.PostSearchIndex;
+import com.cmc.board.trending.Activity;
+import com.cmc.board.trending.TrendingPosts;
 import com.cmc.board.user.User;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_TREE_SIZE = 1000;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final PostCache postCache;
+    private final FeedVersion feedVersion;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPosts trendingPosts;
+    private final PrimaryReads primaryReads;
 
     public CommentResponse createComment(CommentRequest request, String email){
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 작성자는 캐시된 식별 정보로 찾고, 엔티티는 로딩하지 않고 참조만 사용
+        UserIdentity writer = userIdentityCache.get(email);
 
         Comment comment = new Comment();
-        comment.setUser(user);
+        comment.setUser(userRepository.getReferenceById(writer.getUserId()));
         comment.setContent(request.getContent());
         comment.setCreatedAt(LocalDateTime.now());
         comment.setUpdatedAt(LocalDateTime.now());
@@ -34,28 +68,123 @@ public class CommentService {
                     .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
             comment.setPost(post);
         }
+        Comment parent = null;
         if(request.getParentId() != null){
-            Comment parent = commentRepository.findById(request.getParentId())
+            parent = commentRepository.findById(request.getParentId())
                     .orElseThrow(() -> new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND));
-            comment.setParent(parent);
+            checkDepth(parent);
+            // 대댓글은 게시글을 따로 넘기지 않아도 부모 댓글의 게시글에 속한다
+            if(comment.getPost() == null) comment.setPost(parent.getPost());
         }
+        comment.attachTo(parent); // 스레드 조회용 path, depth
 
         commentRepository.save(comment);
 
+        // 비정규화된 카운터 갱신
+        if(comment.getPost() != null) postRepository.addCommentCount(comment.getPost().getPostId(), 1);
+        if(comment.getParent() != null) commentRepository.addChildCount(comment.getParent().getCommentId(), 1);
+
+        // 커밋 후: 캐시된 게시글의 댓글 수 갱신, 댓글 본문 검색 색인, 게시글 인기 점수 반영
+        if(comment.getPost() != null) {
+            Long postId = comment.getPost().getPostId();
+            AfterCommit.run(() -> {
+                postCache.invalidate(postId);
+                feedVersion.bump(); // 목록의 댓글 수
+                postSearchIndex.indexComment(comment.getCommentId(), postId, comment.getContent());
+                trendingPosts.record(postId, Activity.COMMENT, 1);
+            });
+        }
+
         // 입력값 생성
-        return new CommentResponse(comment);
+        return new CommentResponse(comment, writer.getNickname());
+    }
+
+    // 여러 댓글을 한 트랜잭션에서 작성 (게시글/부모 댓글은 한 번에 조회하고, insert 는 JDBC 배치로 묶인다)
+    public List<CommentResponse> createComments(List<CommentRequest> requests, String email){
+        UserIdentity writer = userIdentityCache.get(email);
+        User user = userRepository.getReferenceById(writer.getUserId());
+
+        Map<Long, Post> posts = postRepository.findAllById(distinct(requests, CommentRequest::getPostId)).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        Map<Long, Comment> parents = commentRepository.findAllById(distinct(requests, CommentRequest::getParentId)).stream()
+                .collect(Collectors.toMap(Comment::getCommentId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Comment> comments = new ArrayList<>(requests.size());
+        for(CommentRequest request : requests){
+            Comment comment = new Comment();
+            comment.setUser(user);
+            comment.setContent(request.getContent());
+            comment.setCreatedAt(now);
+            comment.setUpdatedAt(now);
+            if(request.getPostId() != null){
+                Post post = posts.get(request.getPostId());
+                if(post == null) throw new BusinessLogicException(ExceptionCode.POST_NOT_FOUND);
+                comment.setPost(post);
+            }
+            Comment parent = null;
+            if(request.getParentId() != null){
+                parent = parents.get(request.getParentId());
+                if(parent == null) throw new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND);
+                checkDepth(parent);
+                if(comment.getPost() == null) comment.setPost(parent.getPost());
+            }
+            comment.attachTo(parent);
+            comments.add(comment);
+        }
+
+        commentRepository.saveAll(comments);
+
+        // 비정규화된 카운터는 게시글/부모 댓글마다 한 번씩 갱신
+        Map<Long, Integer> postCounts = new HashMap<>();
+        Map<Long, Integer> childCounts = new HashMap<>();
+        for(Comment comment : comments){
+            if(comment.getPost() != null) postCounts.merge(comment.getPost().getPostId(), 1, Integer::sum);
+            if(comment.getParent() != null) childCounts.merge(comment.getParent().getCommentId(), 1, Integer::sum);
+        }
+        postCounts.forEach(postRepository::addCommentCount);
+        childCounts.forEach(commentRepository::addChildCount);
+
+        AfterCommit.run(() -> {
+            postCache.invalidateAll(postCounts.keySet());
+            feedVersion.bump();
+            for(Comment comment : comments){
+                if(comment.getPost() != null) {
+                    postSearchIndex.indexComment(comment.getCommentId(), comment.getPost().getPostId(), comment.getContent());
+                }
+            }
+            postCounts.forEach((postId, count) -> trendingPosts.record(postId, Activity.COMMENT, count));
+        });
+
+        return comments.stream()
+                .map(comment -> new CommentResponse(comment, writer.getNickname()))
+                .collect(Collectors.toList());
+    }
+
+    // path 컬럼 길이를 넘지 않도록 대댓글 깊이를 제한
+    private static void checkDepth(Comment parent){
+        if(parent.getDepth() >= Comment.MAX_DEPTH) throw new BusinessLogicException(ExceptionCode.COMMENT_TOO_DEEP);
+    }
+
+    private static Set<Long> distinct(List<CommentRequest> requests, Function<CommentRequest, Long> id){
+        return requests.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 
+    @Transactional(readOnly = true)
     public List<CommentResponse> findPostComments(Long postId) {
         // 쿼리 메서드를 사용하거나 전체 조회 후 필터링합니다.
         List<Comment> parentComments = commentRepository.findByPostPostIdOrderByCommentIdDesc(postId);
 
-        // DTO로 변환하여 반환 (생성자에서 자식 개수가 계산됨)
+        // DTO로 변환하여 반환 (자식 개수는 비정규화된 childCount 사용)
         return parentComments.stream()
                 .map(CommentResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CommentResponse> findChildComments(Long parentId) {
         // 1. 해당 parentId를 부모로 가진 대댓글 리스트 조회
         List<Comment> children = commentRepository.findByParentCommentIdOrderByCommentIdDesc(parentId);
@@ -66,6 +195,133 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponse> findPostCommentsBefore(Long postId, String before, int size) {
+        // 게시글의 최상위 댓글만 커서 기반으로 조회 (대댓글은 findChildCommentsBefore 로 펼친다)
+        Slice<CommentResponse> slice = commentRepository
+                .findTopLevelBefore(postId, CursorCodec.decodeOrMax(before), CursorCodec.limit(size))
+                .map(CommentResponse::new);
+
+        return SliceResponse.of(slice, comment -> CursorCodec.encode(comment.getCommentId()));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponse> findChildCommentsBefore(Long parentId, String before, int size) {
+        // 대댓글을 커서 기반으로 조회
+        Slice<CommentResponse> slice = commentRepository
+                .findChildrenBefore(parentId, CursorCodec.decodeOrMax(before), CursorCodec.limit(size))
+                .map(CommentResponse::new);
+
+        return SliceResponse.of(slice, comment -> CursorCodec.encode(comment.getCommentId()));
+    }
+
+    // 게시글의 댓글 스레드를 트리로 조회 (root 가 있으면 그 댓글의 서브트리, depth 는 기준에서 몇 단계 아래까지인지)
+    // 서브트리를 path 접두사 범위 탐색으로 MAX_TREE_SIZE 개씩 읽고 메모리에서 조립한다
+    // 더 남아 있으면 nextCursor 로 이어서 조회한다, 이어진 페이지에서 부모가 앞 페이지에 있던 댓글은 최상위에 오므로 parentId 로 붙인다
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentTreeResponse> findCommentTree(Long postId, Long rootId, Integer depth, String after) {
+        int levels = depth == null ? Integer.MAX_VALUE - 1 : Math.max(depth, 0);
+        boolean firstPage = after == null || after.isBlank();
+
+        Map<Long, CommentTreeResponse> nodes = new LinkedHashMap<>();
+        List<CommentTreeResponse> roots = new ArrayList<>();
+        String prefix = Comment.ROOT_PATH;
+        int maxDepth = levels;
+        if (rootId != null) {
+            Comment root = commentRepository.findById(rootId)
+                    .filter(comment -> comment.getPost() != null && comment.getPost().getPostId().equals(postId))
+                    .orElseThrow(() -> new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND));
+            if (firstPage) {
+                CommentTreeResponse response = new CommentTreeResponse(root);
+                nodes.put(root.getCommentId(), response);
+                roots.add(response);
+            }
+            if (levels == 0) {
+                return new SliceResponse<>(roots, null, false);
+            }
+            prefix = root.childPath();
+            maxDepth = (int) Math.min((long) root.getDepth() + levels, Integer.MAX_VALUE);
+        }
+
+        // 커서는 마지막으로 읽은 댓글의 (조상 id..., 댓글 id)
+        String afterPath = "";
+        long afterId = 0;
+        if (!firstPage) {
+            long[] keys = CursorCodec.decodeAll(after);
+            if (keys.length > Comment.MAX_DEPTH + 1) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            afterPath = Comment.path(keys, keys.length - 1);
+            afterId = keys[keys.length - 1];
+        }
+
+        Slice<CommentNode> subtree = commentRepository.findSubtree(postId, prefix + "%", maxDepth,
+                afterPath, afterId, PageRequest.of(0, MAX_TREE_SIZE));
+        for (CommentNode node : subtree) {
+            CommentTreeResponse response = new CommentTreeResponse(node);
+            nodes.put(node.getCommentId(), response);
+            // 부모는 path 순서상 항상 먼저 나온다 (범위 밖이면 최상위로 둔다)
+            CommentTreeResponse parent = node.getParentId() == null ? null : nodes.get(node.getParentId());
+            if (parent == null) {
+                roots.add(response);
+            } else {
+                parent.getReplies().add(response);
+            }
+        }
+
+        List<CommentNode> read = subtree.getContent();
+        String nextCursor = subtree.hasNext() && !read.isEmpty() ? treeCursor(read.get(read.size() - 1)) : null;
+        return new SliceResponse<>(roots, nextCursor, subtree.hasNext());
+    }
+
+    private static String treeCursor(CommentNode node) {
+        long[] ancestorIds = Comment.ancestorIds(node.getPath());
+        long[] keys = Arrays.copyOf(ancestorIds, ancestorIds.length + 1);
+        keys[ancestorIds.length] = node.getCommentId();
+        return CursorCodec.encode(keys);
+    }
+
+    // 조건부 GET 용 댓글 목록 버전: 게시글의 댓글 수와 마지막 댓글 작성/수정/삭제 시각 (댓글을 읽지 않음)
+    // 게시글이 없으면 검증자 없이 목록 조회 결과를 그대로 응답한다
+    // replica 가 늦으면 예전 버전으로 304 를 줄 수 있으므로 검증자는 primary 에서 읽는다
+    @Transactional(readOnly = true)
+    public ResourceVersion findCommentsVersion(Long postId) {
+        return primaryReads.read(() -> postRepository.findVersion(postId))
+                .map(version -> commentsVersion("comments-" + postId, version))
+                .orElse(ResourceVersion.NONE);
+    }
+
+    // 대댓글 목록 버전: 부모 댓글이 속한 게시글의 댓글 버전을 따른다
+    @Transactional(readOnly = true)
+    public ResourceVersion findRepliesVersion(Long commentId) {
+        return primaryReads.read(() -> commentRepository.findPostVersionByCommentId(commentId))
+                .map(version -> commentsVersion("replies-" + commentId, version))
+                .orElse(ResourceVersion.NONE);
+    }
+
+    // 조건부 요청이 아닐 때 응답에 붙일 댓글 목록 버전: 이미 캐시된 게시글로 만든다 (버전을 따로 조회하지 않음)
+    // 게시글이 캐시에 없으면 검증자 없이 응답한다 (캐시된 뒤의 응답부터 ETag 가 붙는다)
+    public ResourceVersion cachedCommentsVersion(Long postId) {
+        return cachedVersion("comments-" + postId, postId);
+    }
+
+    // 대댓글 목록은 응답한 대댓글의 게시글로 찾는다 (대댓글이 없으면 검증자 없음)
+    public ResourceVersion cachedRepliesVersion(Long commentId, List<CommentResponse> replies) {
+        return replies.isEmpty() ? ResourceVersion.NONE : cachedVersion("replies-" + commentId, replies.get(0).getPostId());
+    }
+
+    private ResourceVersion cachedVersion(String name, Long postId) {
+        PostResponse post = postId == null ? null : postCache.peek(postId);
+        return post == null ? ResourceVersion.NONE : commentsVersion(name, post.getCommentCount(), post.getLastCommentAt());
+    }
+
+    private ResourceVersion commentsVersion(String name, PostVersion version) {
+        return commentsVersion(name, version.getCommentCount(), version.getLastCommentAt());
+    }
+
+    private static ResourceVersion commentsVersion(String name, int commentCount, LocalDateTime lastCommentAt) {
+        String tag = name + "-" + commentCount + "-" + ResourceVersion.millis(lastCommentAt);
+        return ResourceVersion.of(tag, lastCommentAt);
+    }
+
     public CommentResponse updateComment(Long commentId, CommentRequest request, String email){
         // 댓글 찾기
         Comment comment = commentRepository.findById(commentId)
@@ -80,6 +336,14 @@ public class CommentService {
         comment.setUpdatedAt(LocalDateTime.now());
 
         commentRepository.save(comment);
+        if(comment.getPost() != null) {
+            Long postId = comment.getPost().getPostId();
+            postRepository.touchComments(postId); // 댓글 목록 버전 갱신
+            AfterCommit.run(() -> {
+                postCache.invalidate(postId); // 캐시된 게시글의 마지막 댓글 시각 (댓글 목록 버전)
+                postSearchIndex.indexComment(commentId, postId, comment.getContent());
+            });
+        }
 
         return new CommentResponse(comment);
     }
@@ -94,6 +358,30 @@ public class CommentService {
             throw new BusinessLogicException(ExceptionCode.NOT_AUTHORIZED);
         }
 
+        // 함께 삭제되는 대댓글까지 포함한 id 목록 (cascade 로 어차피 로딩되는 children 을 사용)
+        List<Long> removedIds = new ArrayList<>();
+        collectSubtree(comment, removedIds);
+        int removedCount = removedIds.size();
+
         commentRepository.delete(comment);
+
+        // 비정규화된 카운터 갱신
+        if(comment.getPost() != null) {
+            Long postId = comment.getPost().getPostId();
+            postRepository.addCommentCount(postId, -removedCount);
+            AfterCommit.run(() -> { // 캐시된 게시글, 목록의 댓글 수 갱신
+                postCache.invalidate(postId);
+                feedVersion.bump();
+            });
+        }
+        if(comment.getParent() != null) commentRepository.addChildCount(comment.getParent().getCommentId(), -1);
+        AfterCommit.run(() -> postSearchIndex.removeComments(removedIds));
+    }
+
+    private void collectSubtree(Comment comment, List<Long> ids){
+        ids.add(comment.getCommentId());
+        for(Comment child : comment.getChildren()){
+            collectSubtree(child, ids);
+        }
     }
 }
@@ -0,0 +1,8 @@
+package com.cmc.board.comment;
+
+// 검색 색인용 프로젝션
+public interface CommentText {
+    Long getCommentId();
+    Long getPostId();
+    String getContent();
+}
@@ -0,0 +1,43 @@
+package com.cmc.board.comment;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 댓글 스레드 응답: 댓글과 그 아래 대댓글들 (replies 는 작성순)
+@Getter
+public class CommentTreeResponse {
+    private final Long commentId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String user;
+    private final Long parentId;
+    private final int depth;
+    private final int childCount;
+    private final List<CommentTreeResponse> replies = new ArrayList<>();
+
+    public CommentTreeResponse(CommentNode node){
+        this.commentId = node.getCommentId();
+        this.content = node.getContent();
+        this.createdAt = node.getCreatedAt();
+        this.updatedAt = node.getUpdatedAt();
+        this.user = node.getNickname();
+        this.parentId = node.getParentId();
+        this.depth = node.getDepth();
+        this.childCount = node.getChildCount();
+    }
+
+    public CommentTreeResponse(Comment comment){
+        this.commentId = comment.getCommentId();
+        this.content = comment.getContent();
+        this.createdAt = comment.getCreatedAt();
+        this.updatedAt = comment.getUpdatedAt();
+        this.user = comment.getUser().getNickname();
+        this.parentId = comment.getParent() == null ? null : comment.getParent().getCommentId();
+        this.depth = comment.getDepth();
+        this.childCount = comment.getChildCount();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cmc.board.common.deletion;
+
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글/댓글/유저를 의존 순서(북마크 -> 댓글 -> 게시글 -> 유저)대로 일괄 삭제한다.
+ * 엔티티를 로딩해서 한 건씩 지우는 CascadeType.REMOVE 대신 id 목록으로 DELETE 문을 실행하므로
+ * 행 수와 상관없이 IN 목록 크기(IN_LIMIT) 단위의 쿼리 몇 번으로 끝난다.
+ * 댓글은 대댓글까지 함께 삭제하며, 삭제 후 남아 있는 게시글의 댓글 수, 부모 댓글의 대댓글 수를 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CascadeDeleter {
+
+    private static final int IN_LIMIT = 1000;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final UserRepository userRepository;
+
+    // 게시글과 그 게시글의 북마크, 댓글(대댓글 포함) 삭제
+    @Transactional
+    public DeletionResult deletePosts(List<Long> postIds) {
+        DeletionResult result = new DeletionResult();
+        result.addBookmarks(sum(postIds, bookmarkRepository::deleteByPostIds));
+        deleteCommentTrees(collect(postIds, commentRepository::findIdsByPostIds), result);
+        sum(postIds, postRepository::deleteByIds);
+
+        result.getPostIds().addAll(postIds);
+        result.getTouchedPostIds().removeAll(postIds);
+        reconcilePosts(result);
+        return result;
+    }
+
+    // 댓글과 그 대댓글 삭제
+    @Transactional
+    public DeletionResult deleteComments(List<Long> commentIds) {
+        DeletionResult result = new DeletionResult();
+        deleteCommentTrees(commentIds, result);
+        reconcilePosts(result);
+        return result;
+    }
+
+    // 유저가 남긴 북마크와 유저 삭제 (게시글, 댓글은 먼저 지워야 한다)
+    @Transactional
+    public int deleteUser(Long userId) {
+        int bookmarks = bookmarkRepository.deleteByUserId(userId);
+        userRepository.deleteById(userId);
+        return bookmarks;
+    }
+
+    private void deleteCommentTrees(Collection<Long> rootIds, DeletionResult result) {
+        if (rootIds.isEmpty()) {
+            return;
+        }
+
+        // 대댓글을 한 단계씩 내려가며 함께 삭제할 댓글을 모은다
+        Set<Long> doomed = new LinkedHashSet<>(rootIds);
+        List<Long> frontier = new ArrayList<>(rootIds);
+        while (!frontier.isEmpty()) {
+            frontier = collect(frontier, commentRepository::findChildIds).stream()
+                    .filter(doomed::add)
+                    .toList();
+        }
+        List<Long> commentIds = new ArrayList<>(doomed);
+
+        // 삭제 후 카운터를 다시 계산할 게시글, 부모 댓글 (삭제 대상이 아닌 것만)
+        result.getTouchedPostIds().addAll(collect(commentIds, commentRepository::findPostIdsByIds));
+        Set<Long> parentIds = new HashSet<>(collect(commentIds, commentRepository::findParentIdsByIds));
+        parentIds.removeAll(doomed);
+
+        sum(commentIds, commentRepository::detachParents);
+        sum(commentIds, commentRepository::deleteByIds);
+        if (!parentIds.isEmpty()) {
+            sum(new ArrayList<>(parentIds), commentRepository::reconcileChildCounts);
+        }
+        result.getCommentIds().addAll(commentIds);
+    }
+
+    private void reconcilePosts(DeletionResult result) {
+        if (!result.getTouchedPostIds().isEmpty()) {
+            sum(new ArrayList<>(result.getTouchedPostIds()), postRepository::reconcileCommentCounts);
+        }
+    }
+
+    // IN 목록이 너무 길어지지 않도록 나눠서 실행
+    private static int sum(List<Long> ids, Function<List<Long>, Integer> query) {
+        int total = 0;
+        for (int from = 0; from < ids.size(); from += IN_LIMIT) {
+            total += query.apply(ids.subList(from, Math.min(from + IN_LIMIT, ids.size())));
+        }
+        return total;
+    }
+
+    private static List<Long> collect(Collection<Long> ids, Function<List<Long>, List<Long>> query) {
+        List<Long> source = new ArrayList<>(ids);
+        List<Long> collected = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += IN_LIMIT) {
+            collected.addAll(query.apply(source.subList(from, Math.min(from + IN_LIMIT, source.size()))));
+        }
+        return collected;
+    }
+}
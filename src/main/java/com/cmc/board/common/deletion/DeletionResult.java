@@ -0,0 +1,23 @@
+package com.cmc.board.common.deletion;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 일괄 삭제 결과 (삭제 후 캐시, 검색 색인 정리에 사용)
+@Getter
+public class DeletionResult {
+
+    private final List<Long> postIds = new ArrayList<>();
+    private final List<Long> commentIds = new ArrayList<>();
+    // 댓글이 삭제되어 댓글 수가 바뀐, 남아 있는 게시글
+    private final Set<Long> touchedPostIds = new HashSet<>();
+    private int bookmarkCount;
+
+    void addBookmarks(int count) {
+        bookmarkCount += count;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cmc.board.common.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * DB 제약 조건 위반 예외가 어떤 제약 조건 때문에 발생했는지 판별한다.
+ * 드라이버 메시지에 제약 조건(인덱스) 이름이 포함되므로 엔티티에 선언한 이름으로 비교한다.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
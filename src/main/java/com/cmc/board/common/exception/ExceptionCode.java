@@ -12,11 +12,23 @@ public enum ExceptionCode {
     EMAIL_DUPLICATION(409, "Email already exists"),   // 이메일 중복
     NICKNAME_DUPLICATION(409, "Nickname already exists"), // 닉네임 중복
     CATEGORY_DUPLICATION(409, "Category already exists"), // 닉네임 중복
+    DATA_INTEGRITY_VIOLATION(409, "Request conflicts with existing data"), // 그 외 제약 조건 위반
+    USER_DELETING(409, "User deletion in progress"), // 탈퇴 처리 중인 유저의 로그인, 쓰기
 
     INPUT_CANNOT_BE_NULL(400, "Input value cannot be null"),
     CATEGORY_CANNOT_BE_DELETED(400, "Category cannot be deleted"),
+    INVALID_CURSOR(400, "Invalid cursor"),
+    INVALID_SORT(400, "Invalid sort"),
+    COMMENT_TOO_DEEP(400, "Comment is nested too deeply"), // 대댓글 깊이 한도 초과
+    TOO_MANY_CATEGORIES(400, "Too many categories"), // 목록 조회 카테고리 수 한도 초과
 
-    NOT_AUTHORIZED(403, "Not authorized to access this resource");
+    LOGIN_FAILED(401, "Invalid email or password"),
+    INVALID_TOKEN(401, "Invalid or expired token"),
+
+    NOT_AUTHORIZED(403, "Not authorized to access this resource"),
+
+    SERVER_BUSY(503, "Server is busy, please retry later"), // 동시 처리 한도 초과
+    DELETION_JOB_NOT_FOUND(404, "Deletion job not found");
 
     @Getter
     private int status;
@@ -1,5 +1,6 @@
 package com.cmc.board.common.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -11,4 +12,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleBusiness(BusinessLogicException e) {
         return ResponseEntity.status(e.getExceptionCode().getStatus()).body(e.getExceptionCode().getMessage());
     }
+
+    // 서비스에서 따로 변환하지 않은 제약 조건 위반 (중복 북마크 등)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrity(DataIntegrityViolationException e) {
+        ExceptionCode code = ExceptionCode.DATA_INTEGRITY_VIOLATION;
+        return ResponseEntity.status(code.getStatus()).body(code.getMessage());
+    }
 }
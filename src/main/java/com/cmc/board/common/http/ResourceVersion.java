@@ -0,0 +1,79 @@
+package com.cmc.board.common.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 검증자: ETag 와 Last-Modified.
+ * of 는 조회수처럼 계속 바뀌지만 내용은 같은 것으로 보는 값은 빼고 만들기 때문에 약한(weak) ETag 이다.
+ * 응답에 보이는 값이 모두 바뀔 때마다 달라지는 버전은 strong 으로 강한 ETag 를 만든다.
+ */
+public final class ResourceVersion {
+
+    // 검증자 없음: 항상 본문을 응답한다
+    public static final ResourceVersion NONE = new ResourceVersion(null, -1);
+
+    private final String etag;
+    private final long lastModified; // epoch millis, 없으면 -1
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // tag 는 응답 내용이 바뀌면 함께 바뀌는 값들로 만든다, Last-Modified 는 modifiedAts 중 가장 늦은 시각
+    public static ResourceVersion of(String tag, LocalDateTime... modifiedAts) {
+        long lastModified = -1;
+        for (LocalDateTime modifiedAt : modifiedAts) {
+            if (modifiedAt != null) {
+                lastModified = Math.max(lastModified, millis(modifiedAt));
+            }
+        }
+        return new ResourceVersion("W/\"" + tag + "\"", lastModified);
+    }
+
+    // 응답 내용이 같을 때만 같은 tag (Last-Modified 없이 ETag 만)
+    public static ResourceVersion strong(String tag) {
+        return new ResourceVersion("\"" + tag + "\"", -1);
+    }
+
+    public static long millis(LocalDateTime at) {
+        return at == null ? 0 : at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    // If-None-Match / If-Modified-Since 를 보낸 요청인지 (보내지 않았으면 버전을 따로 조회할 필요가 없다)
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // 200 응답에 ETag, Last-Modified 를 붙인다 (본문에서 만든 버전, 다음 요청의 If-None-Match 로 돌아온다)
+    public <T> ResponseEntity<T> ok(T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (lastModified > 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(body);
+    }
+
+    // 클라이언트가 가진 버전과 같으면 304 로 응답하도록 표시하고 true (컨트롤러는 본문 없이 반환)
+    // 다르면 ETag, Last-Modified 헤더만 붙이고 false
+    public boolean notModified(WebRequest request) {
+        return request.checkNotModified(etag, lastModified);
+    }
+}
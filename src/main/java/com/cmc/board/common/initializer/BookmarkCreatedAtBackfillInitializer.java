@@ -0,0 +1,26 @@
+package com.cmc.board.common.initializer;
+
+import com.cmc.board.bookmark.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * createdAt 컬럼 추가 전에 만들어진 북마크의 생성 시각을 채우는 일회성 백필 작업.
+ * 북마크 목록은 (createdAt, bookmarkId) 키셋으로 조회하므로 createdAt 이 NULL 인 북마크는 어느 페이지에도 나오지 않는다.
+ * board.bookmarks.backfill-created-at-on-startup=true 로 한 번 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.bookmarks.backfill-created-at-on-startup", havingValue = "true")
+public class BookmarkCreatedAtBackfillInitializer implements CommandLineRunner {
+
+    private final BookmarkRepository bookmarkRepository;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int updated = bookmarkRepository.backfillCreatedAt();
+        System.out.println("=== 북마크 생성 시각 백필 완료 (" + updated + "건) ===");
+    }
+}
@@ -0,0 +1,47 @@
+package com.cmc.board.common.initializer;
+
+import com.cmc.board.comment.Comment;
+import com.cmc.board.comment.CommentPathSeed;
+import com.cmc.board.comment.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * path 컬럼 추가 전에 작성된 댓글의 path, depth 를 채우는 일회성 백필 작업.
+ * 최상위 댓글부터 채우고, 부모의 path 가 정해진 댓글을 청크 단위로 읽어 한 단계씩 내려간다.
+ * board.comments.backfill-paths-on-startup=true 로 한 번 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.comments.backfill-paths-on-startup", havingValue = "true")
+public class CommentPathBackfillInitializer implements CommandLineRunner {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String UPDATE_SQL = "update comments set path = ?, depth = ? where comment_id = ?";
+
+    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int updated = commentRepository.backfillRootPaths();
+
+        List<CommentPathSeed> seeds;
+        while (!(seeds = commentRepository.findPathSeeds(PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, seeds.stream()
+                    .map(seed -> new Object[]{
+                            Comment.childPath(seed.getParentPath(), seed.getParentId()),
+                            seed.getParentDepth() + 1,
+                            seed.getCommentId()})
+                    .toList());
+            updated += seeds.size();
+        }
+        System.out.println("=== 댓글 path 백필 완료 (" + updated + "건) ===");
+    }
+}
@@ -0,0 +1,29 @@
+package com.cmc.board.common.initializer;
+
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화된 댓글 수(posts.commentCount), 대댓글 수(comments.childCount)를
+ * 실제 행 수로 다시 계산하는 일회성 백필 작업.
+ * 컬럼 추가 직후나 카운터가 어긋났을 때 board.counters.backfill-on-startup=true 로 한 번 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.counters.backfill-on-startup", havingValue = "true")
+public class CounterBackfillInitializer implements CommandLineRunner {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int posts = postRepository.reconcileCommentCounts();
+        int comments = commentRepository.reconcileChildCounts();
+        System.out.println("=== 카운터 백필 완료 (게시글 " + posts + "건, 댓글 " + comments + "건) ===");
+    }
+}
@@ -0,0 +1,54 @@
+package com.cmc.board.common.initializer;
+
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.comment.CommentText;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostText;
+import com.cmc.board.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 DB 의 게시글/댓글로 검색 색인을 채운다.
+ * 이후에는 PostService, CommentService 가 쓰기마다 색인을 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    private static final Pageable CHUNK = PageRequest.of(0, 1000);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // id 오름차순 키셋으로 나눠 읽는다 (전체를 한 번에 메모리에 올리지 않음)
+        long after = 0;
+        Slice<PostText> posts;
+        do {
+            posts = postRepository.findTextsAfter(after, CHUNK);
+            for (PostText post : posts) {
+                postSearchIndex.indexPost(post.getPostId(), post.getTitle(), post.getContent());
+                after = post.getPostId();
+            }
+        } while (posts.hasNext());
+
+        after = 0;
+        Slice<CommentText> comments;
+        do {
+            comments = commentRepository.findTextsAfter(after, CHUNK);
+            for (CommentText comment : comments) {
+                postSearchIndex.indexComment(comment.getCommentId(), comment.getPostId(), comment.getContent());
+                after = comment.getCommentId();
+            }
+        } while (comments.hasNext());
+
+        System.out.println("=== 검색 색인 구성 완료 (게시글 " + postSearchIndex.size() + "건) ===");
+    }
+}
@@ -0,0 +1,48 @@
+package com.cmc.board.common.initializer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 댓글, 북마크 키 시퀀스를 기존 행의 최대 id 보다 뒤로 옮긴다.
+ * 두 테이블은 IDENTITY 로 키를 받다가 시퀀스(allocationSize 50)로 바뀌었는데,
+ * 이미 행이 있는 DB 에서는 새로 만든 시퀀스가 1 부터 시작해 기존 id 와 겹친다.
+ * 요청을 받기 전(웹 서버 시작 전)에 실행되도록 CommandLineRunner 대신 싱글톤 초기화가 끝난 시점에 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceInitializer implements SmartInitializingSingleton {
+
+    // Comment, Bookmark 의 @SequenceGenerator allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restartAboveMaxId("comments_seq", "comments", "comment_id");
+        restartAboveMaxId("bookmarks_seq", "bookmarks", "bookmark_id");
+    }
+
+    // Hibernate(pooled)는 시퀀스 값 v 를 받으면 v - 49 ~ v 를 키로 쓰므로, 다음 값이 최대 id + 50 이상이어야 겹치지 않는다
+    // 이미 충분히 뒤에 있으면 그대로 둔다 (다른 인스턴스가 미리 할당받은 구간을 되돌리지 않도록)
+    private void restartAboveMaxId(String sequence, String table, String idColumn) {
+        List<Long> next = jdbcTemplate.queryForList(
+                "select base_value from information_schema.sequences where sequence_name = ?",
+                Long.class, sequence.toUpperCase());
+        if (next.isEmpty()) {
+            return; // 시퀀스가 없으면 (스키마를 직접 관리하는 경우) 마이그레이션에서 처리
+        }
+
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        long restartWith = maxId + ALLOCATION_SIZE;
+        if (maxId > 0 && next.get(0) < restartWith) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + restartWith);
+            System.out.println("=== " + sequence + " 을 " + restartWith + " 부터 시작하도록 조정 ===");
+        }
+    }
+}
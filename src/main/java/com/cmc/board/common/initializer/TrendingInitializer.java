@@ -0,0 +1,22 @@
+package com.cmc.board.common.initializer;
+
+import com.cmc.board.trending.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 DB 의 최근 북마크/댓글/조회수로 인기 게시글 점수를 채운다.
+ * 이후에는 활동마다 점수를 더하고, 주기적인 재계산으로 다른 인스턴스의 활동까지 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingInitializer implements CommandLineRunner {
+
+    private final TrendingService trendingService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        trendingService.reconcile();
+    }
+}
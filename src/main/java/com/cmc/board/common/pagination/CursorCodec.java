@@ -0,0 +1,63 @@
+package com.cmc.board.common.pagination;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서 인코더.
+ * 정렬 키 값들을 base64url 문자열로 감싸서 클라이언트가 내부 키 구조에 의존하지 않도록 한다.
+ */
+public final class CursorCodec {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = ":";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long... keys) {
+        String raw = Arrays.stream(keys)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long[] decode(String cursor, int length) {
+        long[] keys = decodeAll(cursor);
+        if (keys.length != length) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+        return keys;
+    }
+
+    // 키 개수가 정해지지 않은 커서 (댓글 트리처럼 조상 id 경로를 담는 경우)
+    public static long[] decodeAll(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Arrays.stream(raw.split(DELIMITER)).mapToLong(Long::parseLong).toArray();
+        } catch (IllegalArgumentException e) { // 잘못된 base64, 숫자가 아닌 키
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // 커서가 비어 있으면 첫 페이지(가장 최신)부터 조회
+    public static long decodeOrMax(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        return decode(cursor, 1)[0];
+    }
+
+    // 한 번에 조회할 수 있는 개수를 1 ~ MAX_SIZE 로 제한 (오프셋은 항상 0)
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SIZE));
+    }
+}
@@ -0,0 +1,30 @@
+package com.cmc.board.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답. 전체 개수(count 쿼리) 없이 다음 페이지 존재 여부와 다음 커서만 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1))
+                : null;
+        return new SliceResponse<>(content, nextCursor, slice.hasNext());
+    }
+}
@@ -0,0 +1,28 @@
+package com.cmc.board.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화, 검색 색인 등 DB 밖의 상태 갱신을 트랜잭션 커밋 이후로 미룬다.
+ * 커밋 전에 캐시를 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있고, 롤백되면 색인만 바뀐 채로 남는다.
+ * 트랜잭션 밖(단위 테스트, 배치)에서는 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.cmc.board.common.transaction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시를 채우는 조회와 조건부 GET 검증자 조회를 replica 가 아닌 primary 에서 실행한다.
+ * replica 는 복제 지연만큼 늦으므로, 쓰기 직후 readOnly 트랜잭션에서 캐시를 채우면
+ * 예전 값이 복제 지연보다 훨씬 오래(다음 무효화나 만료까지) 캐시에 남는다.
+ * readOnly 트랜잭션 안이면 별도의 쓰기 트랜잭션(primary 커넥션)을 열어 실행하고,
+ * replica 를 쓰지 않거나 readOnly 트랜잭션 밖이면 이미 primary 이므로 그대로 실행한다.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate primary;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${board.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        if (replicaEnabled) {
+            // 호출한 트랜잭션은 replica 커넥션을 잡고 있을 수 있으므로 새 트랜잭션으로 primary 커넥션을 받는다
+            primary = new TransactionTemplate(transactionManager);
+            primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            primary = null; // 같은 풀에서 커넥션을 하나 더 잡지 않도록 새 트랜잭션을 열지 않는다
+        }
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (primary == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        return primary.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,13 @@
+package com.cmc.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 작업은 Spring Boot 가 만드는 applicationTaskExecutor 에서 실행된다.
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 가상 스레드로 바뀐다 (Java 21 이상).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,89 @@
+package com.cmc.board.config;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증(BCrypt)을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 가입/로그인이 몰려도 CPU 를 쓰는 해싱은 threads 개까지만 동시에 돌고, 대기열(queueCapacity)이 차면
+ * 요청 스레드를 붙잡아 두지 않고 바로 SERVER_BUSY(503)로 거절해서 다른 조회 요청이 밀리지 않게 한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        this.delegate = delegate;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("board.password.rejected")
+                .description("해싱 대기열이 가득 차서 거절된 가입/로그인 수")
+                .register(registry);
+        Gauge.builder("board.password.queued", executor, pool -> pool.getQueue().size())
+                .description("해싱 대기 중인 작업 수")
+                .register(registry);
+        Gauge.builder("board.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 작업 수")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 work factor 가 설정보다 낮으면 true (로그인 성공 시 UserDetailsPasswordService 로 다시 해싱)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BusinessLogicException(ExceptionCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException(ExceptionCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cmc.board.config;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 컨트롤러 밖(Security 필터 체인)에서 던진 BusinessLogicException 을 GlobalExceptionHandler 와 같은 응답으로 바꾼다.
+ * 폼 로그인 중 비밀번호 검증이 SERVER_BUSY 로 거절되면 500 대신 503 을 돌려주기 위해 사용한다.
+ */
+public class BusinessExceptionFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (BusinessLogicException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            ExceptionCode code = e.getExceptionCode();
+            response.setStatus(code.getStatus());
+            if (code == ExceptionCode.SERVER_BUSY) {
+                response.setHeader("Retry-After", "1");
+            }
+            response.setContentType("application/text;charset=UTF-8");
+            response.getWriter().write(code.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.cmc.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 가상 스레드 모드에서만 사용 (플랫폼 스레드 모드는 Tomcat 스레드 수가 이미 상한이라, 커넥션을 쓰지 않는 요청까지 막게 된다)
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "board.concurrency.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10; // Hikari 기본값
+
+    // 로그인(유저 조회)도 커넥션을 쓰므로 Security 필터보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectProvider<HikariDataSource> pools,
+            MeterRegistry registry,
+            @Value("${board.concurrency.limit.max-concurrent:0}") int maxConcurrent,
+            @Value("${board.concurrency.limit.queue-timeout:1s}") Duration queueTimeout) {
+        int limit = maxConcurrent > 0 ? maxConcurrent : poolSize(pools);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, queueTimeout, registry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    // max-concurrent 를 지정하지 않으면 커넥션 풀 크기만큼만 동시에 처리 (replica 를 쓰면 두 풀의 합)
+    private int poolSize(ObjectProvider<HikariDataSource> pools) {
+        int size = pools.stream().mapToInt(HikariDataSource::getMaximumPoolSize).sum();
+        return size > 0 ? size : DEFAULT_POOL_SIZE;
+    }
+}
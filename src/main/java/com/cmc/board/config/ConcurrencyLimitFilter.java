@@ -0,0 +1,75 @@
+package com.cmc.board.config;
+
+import com.cmc.board.common.exception.ExceptionCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리하는 요청 수를 제한하는 필터.
+ * 가상 스레드 모드에서는 요청마다 스레드가 생기므로 Tomcat 스레드 수가 더 이상 상한 역할을 하지 못한다.
+ * 한도를 JDBC 커넥션 풀 크기에 맞춰 두고, 자리가 나지 않으면 커넥션 대기(30초) 대신 빠르게 503 을 돌려준다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long queueTimeoutNanos;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(int maxConcurrent, Duration queueTimeout, MeterRegistry registry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.rejected = Counter.builder("board.concurrency.rejected")
+                .description("동시 처리 한도 초과로 거절된 요청 수")
+                .register(registry);
+        Gauge.builder("board.concurrency.available", permits, Semaphore::availablePermits)
+                .description("남은 동시 처리 자리 수")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            ExceptionCode code = ExceptionCode.SERVER_BUSY;
+            response.setStatus(code.getStatus());
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/text;charset=UTF-8");
+            response.getWriter().write(code.getMessage());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 운영용 엔드포인트, H2 콘솔은 제한하지 않는다
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator") || path.startsWith("/h2-console");
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.cmc.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀 구성.
+ * 애플리케이션이 쓰는 DataSource 는 LazyConnectionDataSourceProxy 로, 실제 커넥션은 첫 쿼리 때 풀에서 꺼낸다.
+ * (캐시에서 응답하는 readOnly 트랜잭션은 커넥션을 잡지 않는다)
+ * board.datasource.replica.enabled=true 이면 readOnly 트랜잭션을 replica 풀로 보낸다.
+ * 캐시를 채우는 조회와 조건부 GET 검증자 조회는 PrimaryReads 로 primary 에서 실행한다 (복제 지연 중의 값이 캐시에 남지 않도록).
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("board.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${board.datasource.replica.url}") String url,
+                                              @Value("${board.datasource.replica.username:}") String username,
+                                              @Value("${board.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica) {
+        DataSource replicaDataSource = replica.getIfAvailable();
+        DataSource target = replicaDataSource == null
+                ? primary
+                : new ReplicaRoutingDataSource(primary, replicaDataSource);
+        return new LazyConnectionDataSourceProxy(target);
+    }
+}
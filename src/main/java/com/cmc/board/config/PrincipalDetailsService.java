@@ -3,23 +3,32 @@ package com.cmc.board.config;
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
 import com.cmc.board.user.User;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class PrincipalDetailsService implements UserDetailsService {
+public class PrincipalDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws BusinessLogicException {
         // DB에서 이메일로 유저를 찾습니다.
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        if (user.getDeletingAt() != null) {
+            throw new BusinessLogicException(ExceptionCode.USER_DELETING); // 탈퇴 처리 중에는 로그인할 수 없다
+        }
+
+        // 로그인 시점에 식별 정보 캐시를 채워 이후 요청에서는 users 조회가 없도록 한다
+        userIdentityCache.put(user);
 
         // Security가 이해할 수 있는 UserDetails 객체로 변환해서 반환합니다.
         return org.springframework.security.core.userdetails.User.builder()
@@ -28,4 +37,13 @@ public class PrincipalDetailsService implements UserDetailsService {
                 .roles(user.getUserRole().name()) // 유저 권한 (예: USER)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 로그인 성공 시 저장된 해시의 work factor 가 설정(board.password.bcrypt-strength)보다 낮으면 Security 가 다시 해싱해서 호출한다
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.cmc.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 조회수 반영 등 주기 작업 (@Scheduled)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,21 +1,39 @@
 package com.cmc.board.config;
 
+import com.cmc.board.auth.TokenCodec;
+import com.cmc.board.user.UserIdentityCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.util.AntPathMatcher;
 
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String TOKEN_MODE = "token";
+
+    private final ObjectProvider<TokenCodec> tokenCodec;
+    private final UserIdentityCache userIdentityCache;
+
+    // board.auth.mode: session(폼 로그인 + JSESSIONID 세션, 기본값) / token(서명 토큰, 세션 없음)
+    @Value("${board.auth.mode:session}")
+    private String authMode;
+
     @Bean
     public SecurityFilterChain filterChain (HttpSecurity http) throws Exception {
 
@@ -23,10 +41,19 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable) // 테스트 편의를 위해 해제
                 .headers(headersConfigurer -> headersConfigurer.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)) // For H2 DB
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/h2-console/**", "/users/signup", "/login").permitAll() // 가입, 로그인은 허용
+                        .requestMatchers("/h2-console/**", "/users/signup", "/login", "/auth/token", "/auth/refresh").permitAll() // 가입, 로그인은 허용
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 캐시 지표 등 운영용
                         .anyRequest().authenticated() // 나머지는 로그인 필수
                 )
+                // 로그인 중 비밀번호 검증이 거절(SERVER_BUSY)되면 503 으로 응답
+                .addFilterBefore(new BusinessExceptionFilter(), UsernamePasswordAuthenticationFilter.class);
+
+        if (TOKEN_MODE.equals(authMode)) {
+            return tokenAuthentication(http).build();
+        }
+
+        http
                 .formLogin(form -> form
                         .loginProcessingUrl("/login") // POST /login 요청 시 Security가 로그인 진행
                         .usernameParameter("email")   // 아이디 대신 이메일 사용
@@ -58,9 +85,28 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 토큰 모드: 세션을 만들지도 읽지도 않고, 요청마다 Bearer 토큰의 서명만 확인한다 (로그인은 POST /auth/token)
+    private HttpSecurity tokenAuthentication(HttpSecurity http) throws Exception {
+        return http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable) // 토큰은 만료될 때까지 유효, 클라이언트가 버린다
+                .requestCache(AbstractHttpConfigurer::disable)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenCodec.getObject(), userIdentityCache),
+                        UsernamePasswordAuthenticationFilter.class);
+    }
+
     // passwordEncoder 빈 등록
+    // BCrypt 해싱/검증은 요청 스레드가 아닌 크기가 제한된 전용 풀에서 실행한다 (대기열이 차면 503)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry registry,
+            @Value("${board.password.bcrypt-strength:10}") int strength,
+            @Value("${board.password.threads:0}") int threads,
+            @Value("${board.password.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, registry);
     }
 }
@@ -0,0 +1,78 @@
+package com.cmc.board.config;
+
+import com.cmc.board.auth.TokenClaims;
+import com.cmc.board.auth.TokenCodec;
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.user.UserIdentityCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰의 서명, 만료, userId 를 확인해서 인증하는 필터 (board.auth.mode=token).
+ * 세션 조회가 없고, 유저 확인은 식별 정보 캐시로 한다. principal 은 폼 로그인과 같은 UserDetails(username = 이메일)라서 컨트롤러는 그대로 쓴다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenCodec tokenCodec;
+    private final UserIdentityCache userIdentityCache;
+
+    public TokenAuthenticationFilter(TokenCodec tokenCodec, UserIdentityCache userIdentityCache) {
+        this.tokenCodec = tokenCodec;
+        this.userIdentityCache = userIdentityCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        // 토큰이 없으면 익명으로 넘기고, 인증이 필요한 경로면 Security 가 401 을 돌려준다
+        if (header == null || !header.startsWith(BEARER)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = authenticate(header.substring(BEARER.length()));
+        if (authentication == null) {
+            // 잘못되었거나 만료된 토큰은 익명으로 넘긴다 (permitAll 경로인 /auth/refresh 등은 그대로 처리, 나머지는 entry point 가 401)
+            SecurityContextHolder.clearContext();
+        } else {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 서명/만료를 확인하고, 토큰의 userId 가 지금 그 이메일의 유저와 같은지 확인 (탈퇴 후 같은 이메일로 재가입한 경우 거절)
+    // 식별 정보는 캐시에서 읽으므로 보통 users 조회는 없다, 탈퇴 처리 중인 유저도 인증한다 (쓰기는 서비스에서 거절)
+    private Authentication authenticate(String token) {
+        try {
+            TokenClaims claims = tokenCodec.verify(token, TokenClaims.Type.ACCESS);
+            if (!userIdentityCache.find(claims.getEmail()).getUserId().equals(claims.getUserId())) {
+                return null;
+            }
+            UserDetails principal = User.builder()
+                    .username(claims.getEmail())
+                    .password("") // 토큰 인증이라 비밀번호는 없다
+                    .roles(claims.getRole().name())
+                    .build();
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        } catch (BusinessLogicException e) { // INVALID_TOKEN, USER_NOT_FOUND
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.cmc.board.post;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록(GET /posts)의 조건부 GET 버전.
+ * 게시글 생성/수정/삭제, 댓글 수 변경, 조회수 반영(flush)이 커밋된 뒤 올리는 메모리 카운터라서 목록 요청마다 DB 를 조회하지 않는다.
+ * 목록에 보이는 값(조회수 포함)이 바뀌면 항상 달라지므로 강한 ETag 로 쓴다.
+ * 단일 인스턴스 전용: 다른 인스턴스의 쓰기와 조회수 반영은 이 카운터에 보이지 않는다.
+ * 그래서 기동할 때 만든 임의 값을 함께 넣어 다른 인스턴스나 재시작 전에 받은 ETag 와는 일치하지 않게 한다
+ * (여러 인스턴스 뒤에서는 304 대신 200 이 늘어날 뿐 예전 목록으로 304 를 주지는 않는다).
+ */
+@Component
+public class FeedVersion {
+
+    private final String instance = Long.toHexString(new SecureRandom().nextLong());
+    private final AtomicLong epoch = new AtomicLong();
+
+    public String current() {
+        return instance + "-" + epoch.get();
+    }
+
+    // 목록에 보이는 내용이 바뀌었을 때 (커밋 후 호출)
+    public void bump() {
+        epoch.incrementAndGet();
+    }
+}
@@ -1,20 +1,22 @@
 package com.cmc.board.post;
 
-import com.cmc.board.bookmark.Bookmark;
 import com.cmc.board.category.Category;
-import com.cmc.board.comment.Comment;
 import com.cmc.board.user.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter @Setter
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 카테고리별 게시글 존재 여부 확인, 카테고리별 최신순 키셋 조회 (한 카테고리에 행이 몰려도 범위 탐색)
+        @Index(name = "idx_posts_category_post", columnList = "categoryId, postId desc"),
+        // 조회수순 목록 (viewCount, postId 키셋)
+        @Index(name = "idx_posts_view_count", columnList = "viewCount, postId")
+})
 public class Post {
 
     @Id
@@ -33,6 +35,22 @@ public class Post {
     @Column
     private LocalDateTime updatedAt;
 
+    // 댓글이 마지막으로 작성/수정/삭제된 시각 (댓글 목록의 조건부 GET 버전)
+    // 댓글 수와 함께 PostRepository 의 UPDATE 문으로만 바꾼다 (게시글 수정 시 로딩한 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
+    private LocalDateTime lastCommentAt;
+
+    // 댓글 수 (대댓글 포함, comments 컬렉션을 초기화하지 않도록 비정규화)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    // 조회수 (ViewCounter 가 메모리에 모아 두었다가 주기적으로 일괄 반영)
+    // ViewCounter 의 UPDATE 문으로만 바꾼다 (게시글 수정 시 로딩한 값으로 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
     @ManyToOne
     @JoinColumn(name = "userId")
     private User user;
@@ -40,10 +58,4 @@ public class Post {
     @ManyToOne
     @JoinColumn(name = "categoryId")
     private Category category;
-
-    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE) // 게시글 삭제 시 댓글도 삭제
-    private List<Comment> comments = new ArrayList<>();
-
-    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE) // 게시글 삭제 시 북마크도 삭제
-    private List<Bookmark> bookmarks = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.cmc.board.post;
+
+import java.time.LocalDate;
+
+// 인기 점수 재계산용 프로젝션 (게시글별로 시간(hour) 단위로 묶은 북마크/댓글 수)
+public interface PostActivityCount {
+    Long getPostId();
+    LocalDate getBucketDate();
+    Integer getBucketHour();
+    Long getActivityCount();
+}
@@ -0,0 +1,95 @@
+package com.cmc.board.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.cmc.board.common.transaction.PrimaryReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회(GET /posts/{id}) 응답 캐시.
+ * 크기 제한이 있는 W-TinyLFU(Caffeine) 캐시로, 조회가 몰리는 인기 게시글만 남는다.
+ * 게시글 수정/삭제, 댓글 수 변경, 작성자 탈퇴 시 해당 게시글만 정확히 무효화한다.
+ * 조회수는 무효화하지 않고 ViewCounter 가 DB 에 반영한 만큼 캐시된 값에 더한다.
+ * 지표: cache.gets{result=hit|miss}, cache.evictions, cache.load.duration (cache=post)
+ */
+@Component
+public class PostCache {
+
+    private final boolean enabled;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, Entry> cache;
+    // 조회수 반영(ViewCounter.flush) 전후로 하나씩 증가. 반영과 겹쳐서 로딩된 게시글을 가려내는 데 쓴다
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostCache(@Value("${board.cache.post.enabled:true}") boolean enabled,
+                     @Value("${board.cache.post.maximum-size:1000}") long maximumSize,
+                     PrimaryReads primaryReads,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "post");
+        }
+    }
+
+    // 캐시에 없으면 loader 로 primary 에서 조회해서 저장 (캐시를 끄면 항상 loader 호출)
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        if (!enabled) {
+            return loader.apply(postId);
+        }
+        return cache.get(postId, id -> {
+            long loadStarted = generation.get();
+            PostResponse post = primaryReads.read(() -> loader.apply(id));
+            return new Entry(post, loadStarted, generation.get());
+        }).post();
+    }
+
+    // 캐시에 있을 때만 반환 (없으면 null, 로딩하지 않는다)
+    public PostResponse peek(Long postId) {
+        Entry entry = enabled ? cache.getIfPresent(postId) : null;
+        return entry == null ? null : entry.post();
+    }
+
+    // 조회수를 DB 에 반영하기 직전에 호출하고, 반환값을 반영 후 addViewCounts 에 넘긴다
+    public long beginViewFlush() {
+        return generation.incrementAndGet();
+    }
+
+    // DB 에 반영된 조회수를 캐시된 게시글에 더한다
+    // 반영 전에 로딩된 게시글은 더하고, 반영 후에 로딩된 게시글은 DB 값에 이미 들어 있으므로 그대로 둔다.
+    // 반영과 겹쳐 로딩된 게시글은 반영 전 값인지 알 수 없으므로 무효화한다
+    public void addViewCounts(long flushStarted, Map<Long, Long> views) {
+        long flushFinished = generation.incrementAndGet();
+        views.forEach((postId, delta) -> cache.asMap().computeIfPresent(postId, (id, entry) -> {
+            if (entry.loadFinished() < flushStarted) {
+                PostResponse post = entry.post();
+                return new Entry(post.withViewCount(post.getViewCount() + delta), entry.loadStarted(), entry.loadFinished());
+            }
+            return entry.loadStarted() >= flushFinished ? entry : null;
+        }));
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void invalidateAll(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    // 로딩 시작/끝 시점의 generation 을 함께 저장
+    private record Entry(PostResponse post, long loadStarted, long loadFinished) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.cmc.board.post;
 
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.http.ResourceVersion;
 import jakarta.validation.Valid;
 import jakarta.websocket.server.PathParam;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,16 +30,53 @@ public class PostController {
     }
 
     // 게시글 조회
+    // If-None-Match / If-Modified-Since 가 현재 버전과 같으면 게시글을 로딩하지 않고 304 (조회수도 세지 않음)
+    // 조건부 요청이 아니면 버전을 따로 조회하지 않고, 응답한 게시글로 ETag 를 만든다
     @GetMapping("/{post-id}")
-    public ResponseEntity getPost(@PathVariable("post-id") Long postId){
-        return ResponseEntity.ok(postService.findPost(postId));
+    public ResponseEntity getPost(@PathVariable("post-id") Long postId, WebRequest webRequest){
+        if (ResourceVersion.isConditional(webRequest)) {
+            if (postService.findPostVersion(postId).notModified(webRequest)) {
+                return null;
+            }
+            return ResponseEntity.ok(postService.findPost(postId)); // ETag, Last-Modified 는 위에서 붙었다
+        }
+        PostResponse post = postService.findPost(postId);
+        return PostService.versionOf(post).ok(post);
     }
 
-    // 게시글 목록 조회
+    // 게시글 목록 조회 (before 파라미터가 있으면 커서 기반, 빈 값이면 첫 페이지)
+    // 커서 기반 목록의 content 는 preview 길이만큼 잘린 본문 미리보기
+    // sort=latest(기본) 최신순, sort=views 조회수순
+    // category 가 있으면 해당 카테고리들의 게시글만 최신순 커서 기반으로 조회 (category=1&category=2 또는 category=1,2, 최대 10개)
     @GetMapping
     public ResponseEntity getPosts(@RequestParam(defaultValue = "0") int page,
-                                   @RequestParam(defaultValue = "10") int size){
-        List<PostResponse> posts = postService.findPosts(page, size);
+                                   @RequestParam(defaultValue = "10") int size,
+                                   @RequestParam(required = false) String before,
+                                   @RequestParam(defaultValue = "100") int preview,
+                                   @RequestParam(defaultValue = "latest") String sort,
+                                   @RequestParam(required = false) List<Long> category,
+                                   @AuthenticationPrincipal UserDetails userDetails,
+                                   WebRequest webRequest){
+        String email = userDetails == null ? null : userDetails.getUsername(); // 북마크 여부 표시용
+        boolean mostViewed = PostSort.from(sort) == PostSort.VIEWS;
+        // 목록 전체 버전이 그대로면 목록을 조회하지 않고 304 (조회수 반영도 버전을 올리므로 조회수순 목록도 같은 버전을 쓴다)
+        if (postService.findFeedVersion(email).notModified(webRequest)) {
+            return null;
+        }
+        if (category != null && !category.isEmpty()) {
+            if (mostViewed) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_SORT); // 카테고리 목록은 최신순만 지원
+            }
+            return ResponseEntity.ok(postService.findPostsByCategoriesBefore(category, before, size, preview, email));
+        }
+        if (before != null) {
+            return ResponseEntity.ok(mostViewed
+                    ? postService.findMostViewedPostsBefore(before, size, preview, email)
+                    : postService.findPostsBefore(before, size, preview, email));
+        }
+        List<PostResponse> posts = mostViewed
+                ? postService.findMostViewedPosts(page, size, email)
+                : postService.findPosts(page, size, email);
         return ResponseEntity.ok(posts);
     }
 
@@ -1,9 +1,153 @@
 package com.cmc.board.post;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // 목록용 프로젝션(PostSummary) 컬럼, 별칭이 getter 이름과 일치해야 한다
+    String SUMMARY_COLUMNS = "p.postId as postId, p.title as title, substring(p.content, 1, :previewLength) as preview, " +
+            "p.createdAt as createdAt, p.updatedAt as updatedAt, p.commentCount as commentCount, p.viewCount as viewCount, " +
+            "u.nickname as nickname, c.name as categoryName ";
+
     boolean existsByCategoryCategoryId(Long categoryId);
+
+    // 작성자, 카테고리를 함께 조인해서 가져온다 (PostResponse 변환 시 N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<Post> findAll(Pageable pageable);
+
+    // 커서(postId) 이전의 게시글을 최신순으로 조회 (Slice 반환이므로 count 쿼리 없음)
+    // 목록에 필요한 컬럼과 본문 미리보기만 프로젝션으로 가져온다
+    @Query("select " + SUMMARY_COLUMNS +
+            "from Post p join p.user u join p.category c " +
+            "where p.postId < :before order by p.postId desc")
+    Slice<PostSummary> findSummariesBefore(@Param("before") Long before,
+                                           @Param("previewLength") int previewLength,
+                                           Pageable pageable);
+
+    // 카테고리 하나의 최신순 키셋 조회 (idx_posts_category_post 범위 탐색)
+    @Query("select " + SUMMARY_COLUMNS +
+            "from Post p join p.user u join p.category c " +
+            "where c.categoryId = :categoryId and p.postId < :before order by p.postId desc")
+    Slice<PostSummary> findSummariesByCategoryBefore(@Param("categoryId") Long categoryId,
+                                                     @Param("before") Long before,
+                                                     @Param("previewLength") int previewLength,
+                                                     Pageable pageable);
+
+    // 여러 카테고리의 최신순 키셋 조회
+    // in 조건 하나로 조회하면 선택한 카테고리의 커서 이전 게시글을 모두 읽어 정렬하므로,
+    // 카테고리마다 인덱스 범위에서 한 페이지씩만 읽어 postId 내림차순으로 합친다 (SQL 은 카테고리 수만큼)
+    default Slice<PostSummary> findSummariesByCategoriesBefore(Collection<Long> categoryIds, Long before,
+                                                               int previewLength, Pageable pageable) {
+        List<PostSummary> merged = new ArrayList<>();
+        boolean hasNext = false;
+        for (Long categoryId : categoryIds) {
+            Slice<PostSummary> slice = findSummariesByCategoryBefore(categoryId, before, previewLength, pageable);
+            merged.addAll(slice.getContent());
+            hasNext |= slice.hasNext(); // 이 카테고리에 다음 페이지가 남아 있음
+        }
+        merged.sort(Comparator.comparing(PostSummary::getPostId).reversed());
+        if (merged.size() > pageable.getPageSize()) {
+            merged = merged.subList(0, pageable.getPageSize());
+            hasNext = true;
+        }
+        return new SliceImpl<>(merged, pageable, hasNext);
+    }
+
+    // 조회수순 키셋 조회: 커서(viewCount, postId) 다음부터 조회수 내림차순, 같으면 최신순
+    @Query("select " + SUMMARY_COLUMNS +
+            "from Post p join p.user u join p.category c " +
+            "where p.viewCount < :views or (p.viewCount = :views and p.postId < :before) " +
+            "order by p.viewCount desc, p.postId desc")
+    Slice<PostSummary> findSummariesByViewsBefore(@Param("views") Long views,
+                                                  @Param("before") Long before,
+                                                  @Param("previewLength") int previewLength,
+                                                  Pageable pageable);
+
+    // 지정한 게시글들의 목록용 프로젝션 (순서는 호출하는 쪽에서 맞춘다)
+    @Query("select " + SUMMARY_COLUMNS +
+            "from Post p join p.user u join p.category c " +
+            "where p.postId in :postIds")
+    List<PostSummary> findSummariesByIds(@Param("postIds") Collection<Long> postIds,
+                                         @Param("previewLength") int previewLength);
+
+    // ids 순서대로 목록용 프로젝션 반환 (그 사이 삭제된 게시글은 빠진다)
+    default List<PostSummary> findSummariesInOrder(List<Long> postIds, int previewLength) {
+        Map<Long, PostSummary> summaries = findSummariesByIds(postIds, previewLength).stream()
+                .collect(Collectors.toMap(PostSummary::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 조건부 GET 용: 게시글 버전만 PK 로 조회 (본문, 작성자, 카테고리를 읽지 않음)
+    @Query("select p.postId as postId, p.updatedAt as updatedAt, p.commentCount as commentCount, " +
+            "p.lastCommentAt as lastCommentAt from Post p where p.postId = :postId")
+    Optional<PostVersion> findVersion(@Param("postId") Long postId);
+
+    // 검색 색인 재구성용, postId 오름차순으로 제목/본문만 읽는다
+    @Query("select p.postId as postId, p.title as title, p.content as content from Post p " +
+            "where p.postId > :after order by p.postId")
+    Slice<PostText> findTextsAfter(@Param("after") Long after, Pageable pageable);
+
+    long countByUserUserId(Long userId);
+
+    // 회원 탈퇴 시 청크 단위 삭제용, 작성한 게시글 id 를 오름차순으로
+    @Query("select p.postId from Post p where p.user.userId = :userId order by p.postId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 엔티티를 로딩하지 않고 한 번에 삭제 (댓글, 북마크를 먼저 지워야 한다)
+    @Transactional
+    @Modifying
+    @Query("delete from Post p where p.postId in :postIds")
+    int deleteByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 댓글 수를 한 번의 UPDATE 로 원자적으로 증감 (댓글 목록 버전인 lastCommentAt 도 갱신)
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.lastCommentAt = local datetime " +
+            "where p.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 실제 댓글 수로 전체 재계산 (백필/정합성 복구용)
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = " +
+            "(select count(c) from Comment c where c.post.postId = p.postId)")
+    int reconcileCommentCounts();
+
+    // 지정한 게시글만 실제 댓글 수로 재계산 (댓글 일괄 삭제 후)
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = " +
+            "(select count(c) from Comment c where c.post.postId = p.postId), p.lastCommentAt = local datetime " +
+            "where p.postId in :postIds")
+    int reconcileCommentCounts(@Param("postIds") Collection<Long> postIds);
+
+    // 댓글 수정 시 댓글 목록 버전 갱신
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.lastCommentAt = local datetime where p.postId = :postId")
+    int touchComments(@Param("postId") Long postId);
 }
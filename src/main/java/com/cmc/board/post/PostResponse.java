@@ -4,6 +4,8 @@ import com.cmc.board.bookmark.Bookmark;
 import com.cmc.board.category.Category;
 import com.cmc.board.comment.Comment;
 import com.cmc.board.user.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,13 +29,65 @@ public class PostResponse {
 
     private String category;
 
+    private int commentCount;
+
+    private long viewCount;
+
+    // 댓글이 마지막으로 바뀐 시각 (Last-Modified 계산용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime lastCommentAt;
+
+    // 로그인한 유저가 북마크한 게시글인지 (목록 조회에서만 채운다)
+    @JsonProperty("isBookmarked")
+    private boolean bookmarked;
+
     public PostResponse(Post post){
+        this(post, post.getUser().getNickname(), post.getCategory().getName());
+    }
+
+    // 작성자/카테고리를 프록시(참조)로만 가진 게시글용: 이름을 따로 받아 프록시 초기화를 피한다
+    public PostResponse(Post post, String user, String category){
         this.postId = post.getPostId();
         this.title = post.getTitle();
         this.content = post.getContent();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
-        this.user = post.getUser().getNickname();
-        this.category = post.getCategory().getName();
+        this.user = user;
+        this.category = category;
+        this.commentCount = post.getCommentCount();
+        this.viewCount = post.getViewCount();
+        this.lastCommentAt = post.getLastCommentAt();
+    }
+
+    // 목록 조회용: content 에는 잘린 본문 미리보기가 담긴다
+    public PostResponse(PostSummary summary){
+        this.postId = summary.getPostId();
+        this.title = summary.getTitle();
+        this.content = summary.getPreview();
+        this.createdAt = summary.getCreatedAt();
+        this.updatedAt = summary.getUpdatedAt();
+        this.user = summary.getNickname();
+        this.category = summary.getCategoryName();
+        this.commentCount = summary.getCommentCount();
+        this.viewCount = summary.getViewCount();
+    }
+
+    private PostResponse(PostResponse source, long viewCount){
+        this.postId = source.postId;
+        this.title = source.title;
+        this.content = source.content;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.user = source.user;
+        this.category = source.category;
+        this.commentCount = source.commentCount;
+        this.viewCount = viewCount;
+        this.lastCommentAt = source.lastCommentAt;
+        this.bookmarked = source.bookmarked;
+    }
+
+    // 캐시된 응답은 공유되므로 수정하지 않고, 조회수만 바꾼 복사본을 만든다
+    public PostResponse withViewCount(long viewCount){
+        return new PostResponse(this, viewCount);
     }
 }
@@ -1,28 +1,57 @@
 package com.cmc.board.post;
 
+import com.cmc.board.bookmark.BookmarkSet;
+import com.cmc.board.bookmark.BookmarkedPosts;
 import com.cmc.board.category.Category;
+import com.cmc.board.category.CategoryCache;
 import com.cmc.board.category.CategoryRepository;
+import com.cmc.board.common.deletion.CascadeDeleter;
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
-import com.cmc.board.user.User;
+import com.cmc.board.common.http.ResourceVersion;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.common.transaction.AfterCommit;
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.search.PostSearchIndex;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_PREVIEW_LENGTH = 500;
+    // 카테고리 목록 조회 한 번에 지정할 수 있는 카테고리 수 (카테고리마다 SQL 하나)
+    private static final int MAX_CATEGORIES = 10;
+
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final CategoryCache categoryCache;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final ViewCounter viewCounter;
+    private final CascadeDeleter cascadeDeleter;
+    private final BookmarkedPosts bookmarkedPosts;
+    private final FeedVersion feedVersion;
+    private final PrimaryReads primaryReads;
 
     public PostResponse createPost(PostRequest request, String email){
         // 입력값 검증
@@ -30,42 +59,156 @@ public class PostService {
             throw new BusinessLogicException(ExceptionCode.INPUT_CANNOT_BE_NULL);
         }
 
-        // 작성자 찾기
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 작성자 찾기 (캐시된 식별 정보로 찾고, 엔티티는 로딩하지 않고 참조만 사용)
+        UserIdentity writer = userIdentityCache.get(email);
 
-        // 카테고리 찾기
-        Category category = categoryRepository.findById(request.getCategory())
+        // 카테고리 찾기 (스냅샷으로 검증하고, 엔티티는 참조만 사용)
+        Category category = categoryCache.find(request.getCategory())
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
 
         Post post = new Post();
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
-        post.setUser(user);
-        post.setCategory(category);
+        post.setUser(userRepository.getReferenceById(writer.getUserId()));
+        post.setCategory(categoryRepository.getReferenceById(request.getCategory()));
         post.setCreatedAt(LocalDateTime.now());
         post.setUpdatedAt(LocalDateTime.now());
 
         postRepository.save(post);
+        AfterCommit.run(() -> {
+            postSearchIndex.indexPost(post.getPostId(), post.getTitle(), post.getContent());
+            feedVersion.bump();
+        });
 
-        return new PostResponse(post);
+        return new PostResponse(post, writer.getNickname(), category.getName());
     }
 
+    @Transactional(readOnly = true)
     public PostResponse findPost(Long postId){
-        Post post = postRepository.findById(postId)
+        // 반영 전 조회수는 캐시보다 먼저 읽는다 (ViewCounter 는 캐시에 더한 뒤 반영 중 조회수를 지우므로 줄어들어 보이지 않음)
+        long pending = viewCounter.pending(postId);
+
+        // 자주 조회되는 게시글은 캐시에서 반환
+        PostResponse response = postCache.get(postId, id -> {
+            Post post = postRepository.findById(id)
+                    .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
+            return new PostResponse(post);
+        });
+
+        // 조회수는 메모리 카운터에 더하고, 아직 DB 에 반영되지 않은 만큼과 이번 조회를 더해서 응답
+        viewCounter.increment(postId);
+        return response.withViewCount(response.getViewCount() + pending + 1);
+    }
+
+    // 조건부 GET 용 버전 (If-None-Match / If-Modified-Since 가 있을 때만 호출)
+    // 캐시된 게시글이면 DB 조회 없이, 아니면 본문 없이 수정 시각, 댓글 수만 PK 로 조회 (조회수는 제외한 약한 ETag)
+    @Transactional(readOnly = true)
+    public ResourceVersion findPostVersion(Long postId){
+        PostResponse cached = postCache.peek(postId);
+        if (cached != null) {
+            return versionOf(cached);
+        }
+        // replica 가 늦으면 예전 버전으로 304 를 줄 수 있으므로 primary 에서 조회
+        PostVersion version = primaryReads.read(() -> postRepository.findVersion(postId))
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
+        return postVersion(postId, version.getUpdatedAt(), version.getCommentCount(), version.getLastCommentAt());
+    }
 
-        return new PostResponse(post);
+    // 조회한 게시글 응답의 버전 (200 응답의 ETag, findPostVersion 과 같은 값)
+    public static ResourceVersion versionOf(PostResponse post){
+        return postVersion(post.getPostId(), post.getUpdatedAt(), post.getCommentCount(), post.getLastCommentAt());
     }
 
-    public List<PostResponse> findPosts(int page, int size) {
+    private static ResourceVersion postVersion(Long postId, LocalDateTime updatedAt, int commentCount, LocalDateTime lastCommentAt){
+        String tag = "post-" + postId + "-" + ResourceVersion.millis(updatedAt) + "-" + commentCount;
+        return ResourceVersion.of(tag, updatedAt, lastCommentAt);
+    }
+
+    // 조건부 GET 용 목록 버전: 어느 게시글이든 생성/수정/삭제되거나 댓글 수, 조회수가 바뀌면 달라진다 (페이지와 무관하게 보수적으로)
+    // DB 를 조회하지 않는 메모리 버전이라 요청마다 계산한다, 로그인 유저는 북마크 버전도 반영한다
+    // 목록에 보이는 값이 모두 들어가므로 강한 ETag, 삭제는 시각으로 드러나지 않으므로 Last-Modified 없이 ETag 만 사용한다
+    public ResourceVersion findFeedVersion(String email){
+        String tag = "posts-" + feedVersion.current();
+        if (email != null) {
+            tag += "-b" + bookmarkedPosts.version(userIdentityCache.get(email).getUserId());
+        }
+        return ResourceVersion.strong(tag);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> findPosts(int page, int size, String email) {
         // 최신순 정렬
         Pageable pageable = PageRequest.of(page, size, Sort.by("postId").descending());
         Page<Post> postPage = postRepository.findAll(pageable);
 
 
         // 응답값 생성
-        return postPage.map(post -> new PostResponse(post)).getContent();
+        return markBookmarked(postPage.map(post -> new PostResponse(post)).getContent(), email);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> findMostViewedPosts(int page, int size, String email) {
+        // 조회수순 정렬 (같으면 최신순)
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by("viewCount").descending().and(Sort.by("postId").descending()));
+
+        return markBookmarked(postRepository.findAll(pageable).map(PostResponse::new).getContent(), email);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PostResponse> findMostViewedPostsBefore(String before, int size, int previewLength, String email) {
+        // 커서(viewCount, postId) 다음부터 조회수순으로 조회
+        // 조회수는 주기적으로 바뀌므로 페이지 사이에 순위가 바뀐 게시글은 중복/누락될 수 있다
+        long views = Long.MAX_VALUE;
+        long cursor = Long.MAX_VALUE;
+        if (before != null && !before.isBlank()) {
+            long[] keys = CursorCodec.decode(before, 2);
+            views = keys[0];
+            cursor = keys[1];
+        }
+        int preview = Math.min(Math.max(previewLength, 0), MAX_PREVIEW_LENGTH);
+        Slice<PostResponse> slice = postRepository
+                .findSummariesByViewsBefore(views, cursor, preview, CursorCodec.limit(size))
+                .map(PostResponse::new);
+        markBookmarked(slice.getContent(), email);
+
+        return SliceResponse.of(slice, post -> CursorCodec.encode(post.getViewCount(), post.getPostId()));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PostResponse> findPostsBefore(String before, int size, int previewLength, String email) {
+        // 커서 이전의 게시글을 최신순으로 조회 (OFFSET, count 쿼리 없이 인덱스 범위 탐색)
+        long cursor = CursorCodec.decodeOrMax(before);
+        int preview = Math.min(Math.max(previewLength, 0), MAX_PREVIEW_LENGTH);
+        Slice<PostResponse> slice = postRepository
+                .findSummariesBefore(cursor, preview, CursorCodec.limit(size))
+                .map(PostResponse::new);
+        markBookmarked(slice.getContent(), email);
+
+        return SliceResponse.of(slice, post -> CursorCodec.encode(post.getPostId()));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PostResponse> findPostsByCategoriesBefore(List<Long> categoryIds, String before,
+                                                                   int size, int previewLength, String email) {
+        // 카테고리는 캐시된 스냅샷으로 검증 (없는 카테고리가 섞여 있으면 빈 목록 대신 예외)
+        Set<Long> categories = new LinkedHashSet<>(categoryIds);
+        if (categories.size() > MAX_CATEGORIES) {
+            throw new BusinessLogicException(ExceptionCode.TOO_MANY_CATEGORIES);
+        }
+        for (Long categoryId : categories) {
+            categoryCache.find(categoryId)
+                    .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
+        }
+
+        long cursor = CursorCodec.decodeOrMax(before);
+        int preview = Math.min(Math.max(previewLength, 0), MAX_PREVIEW_LENGTH);
+        Slice<PostResponse> slice = postRepository
+                .findSummariesByCategoriesBefore(categories, cursor, preview, CursorCodec.limit(size))
+                .map(PostResponse::new);
+        markBookmarked(slice.getContent(), email);
+
+        return SliceResponse.of(slice, post -> CursorCodec.encode(post.getPostId()));
     }
 
     public PostResponse updatePost(Long postId, PostRequest request, String email){
@@ -78,19 +221,26 @@ public class PostService {
             throw new BusinessLogicException(ExceptionCode.NOT_AUTHORIZED);
         }
 
+        String categoryName = post.getCategory().getName();
         if(request.getTitle() != null) post.setTitle(request.getTitle());
         if(request.getContent() != null) post.setContent(request.getContent());
         if(request.getCategory() != null) {
-            // 카테고리 찾기
-            Category category = categoryRepository.findById(request.getCategory())
+            // 카테고리 찾기 (스냅샷으로 검증하고, 엔티티는 참조만 사용)
+            Category category = categoryCache.find(request.getCategory())
                     .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
-            post.setCategory(category);
+            post.setCategory(categoryRepository.getReferenceById(request.getCategory()));
+            categoryName = category.getName();
         }
         post.setUpdatedAt(LocalDateTime.now());
 
         postRepository.save(post);
+        AfterCommit.run(() -> {
+            postCache.invalidate(postId);
+            postSearchIndex.indexPost(postId, post.getTitle(), post.getContent());
+            feedVersion.bump();
+        });
 
-        return new PostResponse(post);
+        return new PostResponse(post, post.getUser().getNickname(), categoryName);
     }
 
     public void removePost(Long postId, String email){
@@ -103,7 +253,23 @@ public class PostService {
             throw new BusinessLogicException(ExceptionCode.NOT_AUTHORIZED);
         }
 
-        postRepository.delete(post);
+        // 북마크, 댓글, 게시글 순서로 일괄 삭제
+        cascadeDeleter.deletePosts(List.of(postId));
+        AfterCommit.run(() -> {
+            postCache.invalidate(postId);
+            viewCounter.remove(List.of(postId));
+            postSearchIndex.removePost(postId);
+            feedVersion.bump();
+        });
     }
 
+    // 로그인한 유저의 북마크 여부 표시 (캐시된 북마크 집합으로 확인, 행마다 조회하지 않음)
+    private List<PostResponse> markBookmarked(List<PostResponse> posts, String email){
+        if (email == null || posts.isEmpty()) {
+            return posts;
+        }
+        BookmarkSet bookmarks = bookmarkedPosts.get(userIdentityCache.get(email).getUserId());
+        posts.forEach(post -> post.setBookmarked(bookmarks.contains(post.getPostId())));
+        return posts;
+    }
 }
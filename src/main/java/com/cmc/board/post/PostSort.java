@@ -0,0 +1,19 @@
+package com.cmc.board.post;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+
+// 게시글 목록 정렬 기준 (GET /posts?sort=latest|views)
+public enum PostSort {
+    LATEST, // 최신순
+    VIEWS;  // 조회수순
+
+    public static PostSort from(String value) {
+        for (PostSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_SORT);
+    }
+}
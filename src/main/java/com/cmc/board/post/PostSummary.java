@@ -0,0 +1,29 @@
+package com.cmc.board.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 화면에 필요한 컬럼만 조회하는 인터페이스 기반 프로젝션.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷/더티 체킹 비용이 없다.
+ */
+public interface PostSummary {
+
+    Long getPostId();
+
+    String getTitle();
+
+    // 본문 앞부분 미리보기 (잘린 본문)
+    String getPreview();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getCommentCount();
+
+    Long getViewCount();
+
+    String getNickname();
+
+    String getCategoryName();
+}
@@ -0,0 +1,8 @@
+package com.cmc.board.post;
+
+// 검색 색인용 프로젝션
+public interface PostText {
+    Long getPostId();
+    String getTitle();
+    String getContent();
+}
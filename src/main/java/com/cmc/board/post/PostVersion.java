@@ -0,0 +1,11 @@
+package com.cmc.board.post;
+
+import java.time.LocalDateTime;
+
+// 조건부 GET 용 게시글 버전 (본문 없이 PK 로 조회)
+public interface PostVersion {
+    Long getPostId();
+    LocalDateTime getUpdatedAt();
+    int getCommentCount();
+    LocalDateTime getLastCommentAt();
+}
@@ -0,0 +1,33 @@
+package com.cmc.board.post;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시글별, 시간(hour) 단위로 DB 에 반영된 조회수 (인기 점수 재계산용, 모든 인스턴스의 조회수가 모인다)
+@Entity
+@Getter @Setter
+@Table(name = "post_view_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_view_buckets_post_hour", columnNames = {"postId", "bucketAt"})
+}, indexes = {
+        // 기간 내 조회수 조회, 기간이 지난 집계 삭제
+        @Index(name = "idx_post_view_buckets_bucket", columnList = "bucketAt")
+})
+public class PostViewBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bucketId;
+
+    // 게시글 삭제 시 함께 지우지 않는다 (재계산 쿼리에서 남아 있는 게시글만 읽고, 기간이 지나면 삭제)
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketAt; // 시간 단위로 자른 반영 시각
+
+    @Column(nullable = false)
+    private long viewCount;
+}
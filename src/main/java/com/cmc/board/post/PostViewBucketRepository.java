@@ -0,0 +1,28 @@
+package com.cmc.board.post;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostViewBucketRepository extends JpaRepository<PostViewBucket, Long> {
+
+    // 인기 점수 재계산용, 기간 내 반영된 조회수를 게시글, 시간 단위로 읽는다 (bucketAt 인덱스 범위 탐색, 삭제된 게시글 제외)
+    @Query("select v.postId as postId, extract(date from v.bucketAt) as bucketDate, " +
+            "extract(hour from v.bucketAt) as bucketHour, v.viewCount as activityCount " +
+            "from PostViewBucket v where v.bucketAt >= :since " +
+            "and exists (select 1 from Post p where p.postId = v.postId)")
+    List<PostActivityCount> countActivitiesSince(@Param("since") LocalDateTime since);
+
+    // 재계산 기간이 지난 집계 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from PostViewBucket v where v.bucketAt < :before")
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
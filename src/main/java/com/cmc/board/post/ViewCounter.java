@@ -0,0 +1,152 @@
+package com.cmc.board.post;
+
+import jakarta.annotation.PreDestroy;
+import com.cmc.board.trending.TrendingService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 카운터.
+ * 조회마다 posts 행을 UPDATE 하면 인기 게시글 행에 락 경합이 생기므로,
+ * 게시글별 LongAdder(스레드별로 나뉜 셀에 더함)에 모아 두었다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 반영 전(반영 중 포함)의 조회수는 pending() 으로 DB 값에 더해서 보여준다.
+ * 반영이 끝나 조회가 없는 카운터는 다음 반영 때 지우고, 지우는 사이 들어온 조회는 새 카운터로 옮긴다.
+ * 같은 트랜잭션에서 시간 단위 조회수 집계(post_view_buckets)에도 더해서, 인기 점수 재계산이 모든 인스턴스의 조회수를 읽는다.
+ */
+@Component
+public class ViewCounter {
+
+    private static final String FLUSH_SQL = "update posts set view_count = view_count + ? where post_id = ?";
+    // H2 MERGE: (게시글, 시간) 행이 있으면 더하고 없으면 추가
+    private static final String BUCKET_SQL =
+            "merge into post_view_buckets b " +
+            "using (select cast(? as bigint) as post_id, cast(? as timestamp) as bucket_at, cast(? as bigint) as view_count) v " +
+            "on b.post_id = v.post_id and b.bucket_at = v.bucket_at " +
+            "when matched then update set view_count = b.view_count + v.view_count " +
+            "when not matched then insert (post_id, bucket_at, view_count) values (v.post_id, v.bucket_at, v.view_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final PostCache postCache;
+    private final TrendingService trendingService;
+    private final FeedVersion feedVersion;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 카운터에서 빼서 DB 에 반영 중인 조회수 (캐시에 더해질 때까지 pending() 에 포함)
+    private final Map<Long, Long> flushing = new ConcurrentHashMap<>();
+
+    public ViewCounter(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations, PostCache postCache,
+                       TrendingService trendingService, FeedVersion feedVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.postCache = postCache;
+        this.trendingService = trendingService;
+        this.feedVersion = feedVersion;
+    }
+
+    public void increment(Long postId) {
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        if (pending.get(postId) != adder) {
+            moveToCurrent(postId, adder); // 더하는 사이 flush 나 remove 가 카운터를 지웠다
+        }
+    }
+
+    // 삭제된 게시글의 카운터 정리 (반영할 행이 없으므로 남은 조회수는 버린다)
+    public void remove(Collection<Long> postIds) {
+        postIds.forEach(pending::remove);
+    }
+
+    // 카운터를 유지 중인 게시글 수
+    public int trackedPosts() {
+        return pending.size();
+    }
+
+    // 아직 DB 에 반영되지 않았거나 캐시에 더해지지 않은 조회수
+    // flush 는 flushing 에 넣은 뒤 카운터에서 빼고, 캐시에 더한 뒤 flushing 에서 지우므로
+    // 카운터, flushing, 캐시 순으로 읽으면 잠깐 많게 보일 수는 있어도 줄어들어 보이지 않는다
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        long unflushed = adder == null ? 0 : adder.sum();
+        return unflushed + flushing.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${board.views.flush-interval:5s}")
+    public synchronized void flush() {
+        Map<Long, Long> views = new LinkedHashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta == 0) {
+                // 지난 반영 이후 조회가 없던 카운터는 지운다 (맵이 조회된 적 있는 모든 게시글로 커지지 않도록)
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    moveToCurrent(entry.getKey(), entry.getValue());
+                }
+                continue;
+            }
+            flushing.put(entry.getKey(), delta);
+            entry.getValue().add(-delta);
+            views.put(entry.getKey(), delta);
+        }
+        if (views.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        List<Object[]> buckets = new ArrayList<>();
+        Timestamp bucketAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+        views.forEach((postId, delta) -> {
+            batch.add(new Object[]{delta, postId});
+            buckets.add(new Object[]{postId, bucketAt, delta});
+        });
+        long flushStarted = postCache.beginViewFlush();
+        try {
+            // 한쪽만 반영되면 되돌릴 때 조회수나 인기 점수가 두 번 더해지므로 한 트랜잭션으로 묶는다
+            transactionOperations.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                jdbcTemplate.batchUpdate(BUCKET_SQL, buckets);
+            });
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 카운터에 되돌린다
+            views.forEach((postId, delta) -> {
+                pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+                flushing.remove(postId);
+            });
+            throw e;
+        }
+
+        // 캐시를 무효화하지 않고 반영된 조회수만큼 캐시된 값을 고친 뒤 반영 중 목록에서 뺀다
+        postCache.addViewCounts(flushStarted, views);
+        views.keySet().forEach(flushing::remove);
+        feedVersion.bump(); // 목록의 조회수, 조회수순 순서
+
+        // 다음 재계산 전까지 이 인스턴스의 인기 점수에 바로 반영 (조회마다 잠금을 잡지 않도록 반영 주기 단위로 묶어서 전달)
+        views.forEach(trendingService::recordViews);
+    }
+
+    // 맵에서 지워진 카운터에 늦게 더해진 조회를 현재 카운터로 옮긴다
+    // 지운 쪽(flush)과 더한 쪽(increment)이 모두 호출할 수 있지만, sumThenReset 은 셀마다 값을 가져가며 0 으로 바꾸므로 한 번씩만 옮겨진다
+    private void moveToCurrent(Long postId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late != 0) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+        }
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,113 @@
+package com.cmc.board.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문서 id -> 토큰 빈도로 구성된 역색인과 BM25 점수 계산.
+ * 동기화하지 않으므로 호출하는 쪽(PostSearchIndex)에서 잠금을 잡는다.
+ */
+class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 토큰 -> (문서 id -> 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 문서 id -> (토큰 -> 빈도), 문서 교체/삭제 시 postings 정리에 사용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    // 문서에 토큰 빈도를 더하거나(sign = 1) 뺀다(sign = -1), 바뀐 토큰만 갱신한다
+    // 문서는 게시글 본문과 댓글들의 빈도를 합친 것이라 댓글 하나를 넣고 뺄 때 문서 전체를 다시 만들지 않는다
+    void add(Long docId, Map<String, Integer> termFrequencies, int sign) {
+        if (termFrequencies.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> document = documents.computeIfAbsent(docId, key -> new HashMap<>());
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            String term = entry.getKey();
+            int delta = sign * entry.getValue();
+            int tf = document.merge(term, delta, Integer::sum);
+            if (tf > 0) {
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(docId, tf);
+            } else {
+                document.remove(term);
+                removePosting(term, docId);
+            }
+            length += delta;
+        }
+        totalLength += length;
+
+        if (document.isEmpty()) {
+            documents.remove(docId);
+            documentLengths.remove(docId);
+        } else {
+            documentLengths.merge(docId, length, Integer::sum);
+        }
+    }
+
+    void remove(Long docId) {
+        Map<String, Integer> termFrequencies = documents.remove(docId);
+        if (termFrequencies == null) {
+            return;
+        }
+
+        for (String term : termFrequencies.keySet()) {
+            removePosting(term, docId);
+        }
+        totalLength -= documentLengths.remove(docId);
+    }
+
+    private void removePosting(String term, Long docId) {
+        Map<Long, Integer> docs = postings.get(term);
+        if (docs == null) {
+            return;
+        }
+        docs.remove(docId);
+        if (docs.isEmpty()) {
+            postings.remove(term);
+        }
+    }
+
+    // BM25 점수 내림차순 (동점이면 최신 문서 먼저)
+    List<Long> search(Collection<String> queryTerms) {
+        if (documents.isEmpty()) {
+            return List.of();
+        }
+
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                int tf = posting.getValue();
+                double norm = K1 * (1 - B + B * documentLengths.get(posting.getKey()) / averageLength);
+                scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    int size() {
+        return documents.size();
+    }
+}
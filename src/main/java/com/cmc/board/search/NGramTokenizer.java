@@ -0,0 +1,78 @@
+package com.cmc.board.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 토크나이저.
+ * 한글 연속 구간은 2-gram 으로(한 글자면 그대로), 그 외 문자/숫자 연속 구간은 소문자 단어 하나로 자른다.
+ * 형태소 분석 없이도 "게시판" 으로 "자유게시판에" 같은 조사/복합어가 붙은 글을 찾을 수 있다.
+ */
+final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            boolean hangul = isHangul(ch);
+            boolean wordChar = hangul || Character.isLetterOrDigit(ch);
+
+            // 구분 문자이거나 한글 <-> 비한글 경계에서 끊는다
+            if (!wordChar || (run.length() > 0 && hangul != hangulRun)) {
+                flush(run, hangulRun, tokens);
+            }
+            if (wordChar) {
+                run.append(hangul ? ch : Character.toLowerCase(ch));
+                hangulRun = hangul;
+            }
+        }
+        flush(run, hangulRun, tokens);
+        return tokens;
+    }
+
+    // 여러 필드를 가중치와 함께 토큰 빈도(tf)로 합산
+    static void addTermFrequencies(Map<String, Integer> target, String text, int weight) {
+        for (String token : tokenize(text)) {
+            target.merge(token, weight, Integer::sum);
+        }
+    }
+
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTermFrequencies(frequencies, text, 1);
+        return frequencies;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        if (!hangul) {
+            tokens.add(run.toString().toLowerCase(Locale.ROOT));
+        } else if (run.length() == 1) {
+            tokens.add(run.toString());
+        } else {
+            for (int i = 0; i + 2 <= run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangul(char ch) {
+        return (ch >= '가' && ch <= '힣')  // 완성형 음절
+                || (ch >= 'ㄱ' && ch <= 'ㆎ'); // 호환 자모 (ㅋㅋ 등)
+    }
+}
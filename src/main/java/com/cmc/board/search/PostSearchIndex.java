@@ -0,0 +1,132 @@
+package com.cmc.board.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 인메모리 역색인.
+ * 게시글 하나가 문서 하나이며, 제목(가중치 2), 본문, 그 게시글의 댓글 본문을 합쳐 색인한다.
+ * PostService/CommentService 의 쓰기 시점에 바뀐 제목/본문, 댓글의 토큰 빈도만 게시글 문서에 더하고 뺀다
+ * (댓글이 많은 게시글도 댓글 하나를 넣고 뺄 때 다른 댓글들은 다시 합치지 않는다).
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InvertedIndex index = new InvertedIndex();
+
+    // 게시글 id -> 제목/본문 토큰 빈도 (수정 시 이전 빈도를 빼는 데 사용)
+    private final Map<Long, Map<String, Integer>> postTerms = new HashMap<>();
+    // 게시글 id -> (댓글 id -> 댓글 토큰 빈도)
+    private final Map<Long, Map<Long, Map<String, Integer>>> commentTerms = new HashMap<>();
+    // 댓글 id -> 게시글 id
+    private final Map<Long, Long> commentPosts = new HashMap<>();
+
+    public void indexPost(Long postId, String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        NGramTokenizer.addTermFrequencies(terms, title, TITLE_WEIGHT);
+        NGramTokenizer.addTermFrequencies(terms, content, 1);
+
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> previous = postTerms.put(postId, terms);
+            if (previous != null) {
+                index.add(postId, previous, -1);
+            }
+            index.add(postId, terms, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글과 그 댓글을 모두 색인에서 제거
+    public void removePosts(Collection<Long> postIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long postId : postIds) {
+                postTerms.remove(postId);
+                Map<Long, Map<String, Integer>> comments = commentTerms.remove(postId);
+                if (comments != null) {
+                    comments.keySet().forEach(commentPosts::remove);
+                }
+                index.remove(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePost(Long postId) {
+        removePosts(List.of(postId));
+    }
+
+    public void indexComment(Long commentId, Long postId, String content) {
+        if (postId == null) {
+            return;
+        }
+
+        Map<String, Integer> terms = NGramTokenizer.termFrequencies(content);
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> previous = commentTerms.computeIfAbsent(postId, key -> new HashMap<>()).put(commentId, terms);
+            if (previous != null) {
+                index.add(postId, previous, -1);
+            }
+            commentPosts.put(commentId, postId);
+            index.add(postId, terms, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeComments(Collection<Long> commentIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long commentId : commentIds) {
+                Long postId = commentPosts.remove(commentId);
+                if (postId == null) {
+                    continue;
+                }
+                Map<Long, Map<String, Integer>> comments = commentTerms.get(postId);
+                index.add(postId, comments.remove(commentId), -1);
+                if (comments.isEmpty()) {
+                    commentTerms.remove(postId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // BM25 점수순 게시글 id
+    public List<Long> search(String query) {
+        List<String> terms = NGramTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
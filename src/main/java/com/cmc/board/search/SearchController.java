@@ -0,0 +1,22 @@
+package com.cmc.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // 게시글 검색 (제목, 본문, 댓글 본문 대상 / 관련도순, before 는 이전 응답의 nextCursor)
+    @GetMapping("/posts/search")
+    public ResponseEntity searchPosts(@RequestParam String q,
+                                      @RequestParam(required = false) String before,
+                                      @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(searchService.searchPosts(q, before, size));
+    }
+}
@@ -0,0 +1,56 @@
+package com.cmc.board.search;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PostResponse> searchPosts(String query, String before, int size) {
+        // 입력값 검증
+        if (query == null || query.isBlank()) {
+            throw new BusinessLogicException(ExceptionCode.INPUT_CANNOT_BE_NULL);
+        }
+
+        // 색인에서 점수순 게시글 id 를 구하고, 커서(결과 내 위치) 다음부터 한 페이지만 DB 에서 읽는다
+        List<Long> ranked = postSearchIndex.search(query);
+        int from = before == null || before.isBlank() ? 0 : decodeOffset(before);
+        int to = Math.min(from + CursorCodec.limit(size).getPageSize(), ranked.size());
+        if (from >= to) {
+            return new SliceResponse<>(List.of(), null, false);
+        }
+
+        // 점수 순서 유지 (색인 반영 직후 삭제된 게시글은 건너뜀)
+        List<PostResponse> content = postRepository.findSummariesInOrder(ranked.subList(from, to), PREVIEW_LENGTH)
+                .stream()
+                .map(PostResponse::new)
+                .toList();
+
+        boolean hasNext = to < ranked.size();
+        return new SliceResponse<>(content, hasNext ? CursorCodec.encode(to) : null, hasNext);
+    }
+
+    private int decodeOffset(String cursor) {
+        long offset = CursorCodec.decode(cursor, 1)[0];
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+        return (int) offset;
+    }
+}
@@ -0,0 +1,18 @@
+package com.cmc.board.trending;
+
+// 인기 점수에 반영되는 활동과 가중치
+public enum Activity {
+    VIEW(1),
+    COMMENT(3),
+    BOOKMARK(5);
+
+    private final int weight;
+
+    Activity(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,20 @@
+package com.cmc.board.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // 인기 게시글 조회 (최근 북마크, 댓글, 조회수를 시간에 따라 감쇠시킨 점수순)
+    @GetMapping("/posts/trending")
+    public ResponseEntity getTrendingPosts(@RequestParam(defaultValue = "10") int size){
+        return ResponseEntity.ok(trendingService.findTrendingPosts(size));
+    }
+}
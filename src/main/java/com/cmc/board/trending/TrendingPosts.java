@@ -0,0 +1,88 @@
+package com.cmc.board.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 게시글 점수의 인메모리 top-K.
+ * 점수는 활동 가중치를 반감기(half-life)로 감쇠시킨 합이다.
+ * 모든 점수를 매번 다시 감쇠시키지 않도록 기준 시각(epoch) 이후로 갈수록 커지는 값(forward decay)으로 저장하며,
+ * 순위는 그대로 비교할 수 있다. 기준 시각은 DB 재계산(replace) 때마다 현재로 옮겨서 값이 커지지 않게 한다.
+ * 후보는 capacity 개까지만 유지하고, 가득 차면 가장 낮은 점수보다 큰 활동만 들어온다 (나머지는 재계산 때 반영).
+ */
+@Component
+public class TrendingPosts {
+
+    private final double decayPerSecond;
+    private final int capacity;
+
+    private LocalDateTime epoch = LocalDateTime.now();
+    private final Map<Long, Double> scores = new HashMap<>();
+    // 점수 내림차순, 같으면 최신 게시글 먼저 (scores 값을 바꾸기 전에 반드시 먼저 제거)
+    private final TreeSet<Long> ranking = new TreeSet<>(
+            Comparator.<Long>comparingDouble(scores::get).reversed().thenComparing(Comparator.reverseOrder()));
+
+    public TrendingPosts(@Value("${board.trending.half-life:6h}") Duration halfLife,
+                         @Value("${board.trending.size:100}") int size) {
+        this.decayPerSecond = Math.log(2) / halfLife.toSeconds();
+        this.capacity = size * 4;
+    }
+
+    public void record(Long postId, Activity activity, long count) {
+        record(postId, activity, count, LocalDateTime.now());
+    }
+
+    public synchronized void record(Long postId, Activity activity, long count, LocalDateTime at) {
+        double value = activity.getWeight() * count / decay(Duration.between(epoch, at));
+
+        Double current = scores.get(postId);
+        if (current != null) {
+            ranking.remove(postId);
+            scores.put(postId, current + value);
+            ranking.add(postId);
+            return;
+        }
+
+        if (scores.size() >= capacity) {
+            Long weakest = ranking.last();
+            if (scores.get(weakest) >= value) {
+                return;
+            }
+            ranking.remove(weakest);
+            scores.remove(weakest);
+        }
+        scores.put(postId, value);
+        ranking.add(postId);
+    }
+
+    public synchronized List<Long> top(int size) {
+        return ranking.stream().limit(size).toList();
+    }
+
+    // DB 에서 다시 계산한 점수(newEpoch 시점 기준으로 감쇠된 값)로 전체 교체
+    public synchronized void replace(LocalDateTime newEpoch, Map<Long, Double> decayedScores) {
+        epoch = newEpoch;
+        ranking.clear();
+        scores.clear();
+        decayedScores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(capacity)
+                .forEach(entry -> {
+                    scores.put(entry.getKey(), entry.getValue());
+                    ranking.add(entry.getKey());
+                });
+    }
+
+    // elapsed 만큼 지난 활동의 감쇠 비율 (반감기마다 1/2)
+    public double decay(Duration elapsed) {
+        return Math.exp(-decayPerSecond * elapsed.toMillis() / 1000.0);
+    }
+}
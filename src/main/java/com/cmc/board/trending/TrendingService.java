@@ -0,0 +1,107 @@
+package com.cmc.board.trending;
+
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.post.PostActivityCount;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.post.PostViewBucketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TrendingService {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final TrendingPosts trendingPosts;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostViewBucketRepository postViewBucketRepository;
+    private final int size;
+    private final Duration window;
+
+    public TrendingService(TrendingPosts trendingPosts,
+                           PostRepository postRepository,
+                           CommentRepository commentRepository,
+                           BookmarkRepository bookmarkRepository,
+                           PostViewBucketRepository postViewBucketRepository,
+                           @Value("${board.trending.size:100}") int size,
+                           @Value("${board.trending.window:72h}") Duration window) {
+        this.trendingPosts = trendingPosts;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.postViewBucketRepository = postViewBucketRepository;
+        this.size = size;
+        this.window = window;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> findTrendingPosts(int size) {
+        // 메모리의 순위만 읽고, 게시글은 id 로만 조회 (북마크/댓글 집계 쿼리 없음)
+        List<Long> postIds = trendingPosts.top(Math.min(Math.max(size, 1), this.size));
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findSummariesInOrder(postIds, PREVIEW_LENGTH).stream()
+                .map(PostResponse::new)
+                .toList();
+    }
+
+    // ViewCounter 가 DB 에 반영한 조회수: 다음 재계산 전까지 바로 점수에 더한다 (재계산은 post_view_buckets 에서 다시 읽는다)
+    public void recordViews(Long postId, long views) {
+        trendingPosts.record(postId, Activity.VIEW, views);
+    }
+
+    /**
+     * DB 의 최근 활동으로 점수를 다시 계산한다.
+     * 다른 인스턴스에서 생긴 북마크/댓글/조회수와 취소된 북마크, 삭제된 댓글/게시글이 여기서 반영된다.
+     * 북마크/댓글은 DB 에서 게시글, 시간 단위로 묶어 세고 시간 구간마다 한 번씩 감쇠시킨다 (반감기 6시간 기준 오차 수 %).
+     * 조회수는 ViewCounter 가 반영할 때 시간 단위로 모아 둔 집계를 같은 방식으로 읽으므로 모든 인스턴스의 순위가 같다.
+     */
+    @Scheduled(fixedDelayString = "${board.trending.reconcile-interval:1m}",
+            initialDelayString = "${board.trending.reconcile-interval:1m}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(window);
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (PostActivityCount bucket : bookmarkRepository.countActivitiesSince(since)) {
+            add(scores, bucket, Activity.BOOKMARK, now);
+        }
+        for (PostActivityCount bucket : commentRepository.countActivitiesSince(since)) {
+            add(scores, bucket, Activity.COMMENT, now);
+        }
+        for (PostActivityCount bucket : postViewBucketRepository.countActivitiesSince(since)) {
+            add(scores, bucket, Activity.VIEW, now);
+        }
+
+        trendingPosts.replace(now, scores);
+    }
+
+    // 재계산 기간이 지난 조회수 집계 삭제 (인스턴스마다 실행되어도 같은 결과)
+    @Scheduled(cron = "0 0 * * * *") // 매시 정각
+    public void purgeViewBuckets() {
+        postViewBucketRepository.deleteBefore(LocalDateTime.now().minus(window));
+    }
+
+    // 시간 구간의 활동은 구간 가운데(진행 중인 구간이면 지금까지의 가운데) 시각에 생긴 것으로 본다
+    private void add(Map<Long, Double> scores, PostActivityCount bucket, Activity type, LocalDateTime now) {
+        LocalDateTime start = bucket.getBucketDate().atTime(bucket.getBucketHour(), 0);
+        LocalDateTime end = start.plusHours(1).isAfter(now) ? now : start.plusHours(1);
+        LocalDateTime at = start.plus(Duration.between(start, end).dividedBy(2));
+        double score = type.getWeight() * bucket.getActivityCount() * trendingPosts.decay(Duration.between(at, now));
+        scores.merge(bucket.getPostId(), score, Double::sum);
+    }
+}
@@ -1,20 +1,22 @@
 package com.cmc.board.user;
 
-import com.cmc.board.bookmark.Bookmark;
-import com.cmc.board.post.Post;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter @Setter
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_NICKNAME, columnNames = "nickname")
+})
 public class User {
 
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_NICKNAME = "uk_users_nickname";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userId;
@@ -35,9 +37,7 @@ public class User {
     @Column
     private LocalDateTime createdAt;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE) // 유저 삭제 시 게시글도 삭제
-    private List<Post> posts = new ArrayList<>();
-
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE) // 유저 삭제 시 북마크도 삭제
-    private List<Bookmark> bookmarks = new ArrayList<>();
+    // 탈퇴 처리가 시작된 시각 (NULL 이면 정상), 탈퇴 중에는 로그인과 쓰기를 거절한다
+    @Column
+    private LocalDateTime deletingAt;
 }
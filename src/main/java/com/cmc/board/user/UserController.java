@@ -8,6 +8,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.security.Principal;
 
 @RestController
@@ -27,7 +28,20 @@ public class UserController { // 로그인, 인가, 로그아웃은 spring secur
     // 회원 탈퇴
     @DeleteMapping
     public ResponseEntity deleteUser(@AuthenticationPrincipal UserDetails userDetails) {
-        userService.deleteUser(userDetails.getUsername());
-        return ResponseEntity.ok("회원 탈퇴가 완료되었습니다.");
+        UserDeletionJob job = userService.deleteUser(userDetails.getUsername());
+        if (job.getStatus() == UserDeletionJob.Status.COMPLETED) {
+            return ResponseEntity.ok("회원 탈퇴가 완료되었습니다.");
+        }
+        // 작성한 글이 많아 백그라운드에서 삭제 중
+        return ResponseEntity.accepted()
+                .location(URI.create("/users/deletion-jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    // 회원 탈퇴 진행 상황 (탈퇴를 요청한 본인만 조회 가능)
+    @GetMapping("/deletion-jobs/{job-id}")
+    public ResponseEntity getDeletionJob(@PathVariable("job-id") String jobId,
+                                         @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(userService.findDeletionJob(jobId, userDetails.getUsername()));
     }
 }
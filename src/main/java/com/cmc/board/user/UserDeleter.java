@@ -0,0 +1,179 @@
+package com.cmc.board.user;
+
+import com.cmc.board.bookmark.BookmarkedPosts;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.common.deletion.CascadeDeleter;
+import com.cmc.board.common.deletion.DeletionResult;
+import com.cmc.board.common.transaction.AfterCommit;
+import com.cmc.board.post.FeedVersion;
+import com.cmc.board.post.PostCache;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.ViewCounter;
+import com.cmc.board.search.PostSearchIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 회원 탈퇴 시 유저가 작성한 게시글(과 그 댓글, 북마크), 다른 게시글에 남긴 댓글, 북마크, 유저를 청크 단위로 삭제한다.
+ * 삭제할 행이 적으면 요청 트랜잭션 안에서 바로 끝내고, 많으면 백그라운드에서 청크마다 트랜잭션을 나눠 실행한다.
+ * 유저는 시작 전에 탈퇴 처리 중으로 표시되지만 (UserService.deleteUser), 다른 인스턴스의 식별 정보 캐시에는 TTL 동안 남아
+ * 그사이 글을 쓸 수 있으므로 유저 행을 지우기 직전에 게시글/댓글을 한 번 더 지운다.
+ */
+@Component
+public class UserDeleter {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final CascadeDeleter cascadeDeleter;
+    private final UserIdentityCache userIdentityCache;
+    private final PostCache postCache;
+    private final ViewCounter viewCounter;
+    private final FeedVersion feedVersion;
+    private final PostSearchIndex postSearchIndex;
+    private final BookmarkedPosts bookmarkedPosts;
+    private final Executor executor;
+    private final long asyncThreshold;
+
+    // 진행 상황 조회용, 진행 중인 작업은 남겨 두고 끝난 작업만 끝난 시점부터 일정 시간 후 제거
+    private final Cache<String, UserDeletionJob> jobs = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, UserDeletionJob>() {
+                @Override
+                public long expireAfterCreate(String jobId, UserDeletionJob job, long currentTime) {
+                    return job.isFinished() ? FINISHED_JOB_RETENTION.toNanos() : Long.MAX_VALUE;
+                }
+
+                @Override
+                public long expireAfterUpdate(String jobId, UserDeletionJob job, long currentTime, long currentDuration) {
+                    return expireAfterCreate(jobId, job, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String jobId, UserDeletionJob job, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public UserDeleter(PostRepository postRepository,
+                       CommentRepository commentRepository,
+                       CascadeDeleter cascadeDeleter,
+                       UserIdentityCache userIdentityCache,
+                       PostCache postCache,
+                       ViewCounter viewCounter,
+                       FeedVersion feedVersion,
+                       PostSearchIndex postSearchIndex,
+                       BookmarkedPosts bookmarkedPosts,
+                       @Qualifier("applicationTaskExecutor") Executor executor,
+                       @Value("${board.deletion.async-threshold:1000}") long asyncThreshold) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.cascadeDeleter = cascadeDeleter;
+        this.userIdentityCache = userIdentityCache;
+        this.postCache = postCache;
+        this.viewCounter = viewCounter;
+        this.feedVersion = feedVersion;
+        this.postSearchIndex = postSearchIndex;
+        this.bookmarkedPosts = bookmarkedPosts;
+        this.executor = executor;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    public UserDeletionJob delete(User user) {
+        UserDeletionJob job = new UserDeletionJob(user.getUserId(), user.getEmail(),
+                postRepository.countByUserUserId(user.getUserId()),
+                commentRepository.countByUserUserId(user.getUserId()));
+        jobs.put(job.getJobId(), job);
+
+        if (job.getTotalPosts() + job.getTotalComments() <= asyncThreshold) {
+            run(job, user.getEmail()); // 호출한 트랜잭션 안에서 실행
+        } else {
+            executor.execute(() -> run(job, user.getEmail()));
+        }
+        return job;
+    }
+
+    // 다른 유저의 작업은 없는 것으로 취급
+    public Optional<UserDeletionJob> find(String jobId, String email) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .filter(job -> job.getEmail().equals(email));
+    }
+
+    // 이 인스턴스에서 진행 중이거나 완료된 유저의 탈퇴 작업 (실패한 작업은 다시 실행하도록 제외)
+    public Optional<UserDeletionJob> findByUser(Long userId) {
+        return jobs.asMap().values().stream()
+                .filter(job -> job.getUserId().equals(userId) && job.getStatus() != UserDeletionJob.Status.FAILED)
+                .max(Comparator.comparing(UserDeletionJob::getStartedAt));
+    }
+
+    private void run(UserDeletionJob job, String email) {
+        Long userId = job.getUserId();
+        try {
+            // 1. 작성한 게시글, 다른 게시글에 남긴 댓글
+            deleteContent(job);
+
+            // 2. 탈퇴 표시 전에 인증된 요청이 그사이 쓴 게시글/댓글 (남아 있으면 유저 행 삭제가 FK 로 실패한다)
+            deleteContent(job);
+
+            // 3. 북마크, 유저
+            job.addProgress(0, 0, cascadeDeleter.deleteUser(userId));
+            AfterCommit.run(() -> {
+                userIdentityCache.evict(email);
+                bookmarkedPosts.evict(userId);
+                job.complete();
+                jobs.put(job.getJobId(), job); // 끝난 시점부터 보관 시간을 센다
+            });
+        } catch (RuntimeException e) {
+            job.fail(e);
+            jobs.put(job.getJobId(), job);
+            throw e; // 비동기 실행이면 실행기의 예외 처리기가 로그를 남긴다
+        }
+    }
+
+    private void deleteContent(UserDeletionJob job) {
+        Long userId = job.getUserId();
+
+        // 작성한 게시글 (댓글, 북마크 포함)
+        List<Long> postIds;
+        while (!(postIds = postRepository.findPostIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            DeletionResult result = cascadeDeleter.deletePosts(postIds);
+            job.addProgress(result.getPostIds().size(), 0, result.getBookmarkCount());
+            afterChunk(result);
+        }
+
+        // 다른 게시글에 남긴 댓글 (대댓글 포함)
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            DeletionResult result = cascadeDeleter.deleteComments(commentIds);
+            job.addProgress(0, result.getCommentIds().size(), 0);
+            afterChunk(result);
+        }
+    }
+
+    // 커밋 후 캐시된 게시글, 검색 색인 정리
+    private void afterChunk(DeletionResult result) {
+        List<Long> invalidated = new ArrayList<>(result.getPostIds());
+        invalidated.addAll(result.getTouchedPostIds());
+        AfterCommit.run(() -> {
+            postCache.invalidateAll(invalidated);
+            viewCounter.remove(result.getPostIds());
+            feedVersion.bump();
+            postSearchIndex.removePosts(result.getPostIds());
+            postSearchIndex.removeComments(result.getCommentIds());
+        });
+    }
+}
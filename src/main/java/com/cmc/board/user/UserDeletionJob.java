@@ -0,0 +1,58 @@
+package com.cmc.board.user;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 회원 탈퇴(게시글, 댓글, 북마크 일괄 삭제) 진행 상황
+@Getter
+public class UserDeletionJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final Long userId;
+    @JsonIgnore
+    private final String email; // 진행 상황은 탈퇴를 요청한 본인만 조회
+    private final long totalPosts;
+    private final long totalComments;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    // 삭제를 실행하는 스레드만 갱신하고, 진행 상황 조회 요청이 읽는다
+    private volatile Status status = Status.RUNNING;
+    private volatile long deletedPosts;
+    private volatile long deletedComments;
+    private volatile long deletedBookmarks;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    UserDeletionJob(Long userId, String email, long totalPosts, long totalComments) {
+        this.userId = userId;
+        this.email = email;
+        this.totalPosts = totalPosts;
+        this.totalComments = totalComments;
+    }
+
+    void addProgress(int posts, int comments, int bookmarks) {
+        deletedPosts += posts;
+        deletedComments += comments;
+        deletedBookmarks += bookmarks;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    void fail(Throwable cause) {
+        error = cause.getMessage();
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cmc.board.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청을 보낸 유저를 식별하는 데 필요한 최소 정보 (캐시 값으로 사용, 불변).
+ */
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+
+    private final Long userId;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final UserRole userRole;
+
+    private final boolean deleting; // 탈퇴 처리 중
+
+    public UserIdentity(Long userId, String email, String nickname, UserRole userRole) {
+        this(userId, email, nickname, userRole, false);
+    }
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getUserId(), user.getEmail(), user.getNickname(), user.getUserRole(),
+                user.getDeletingAt() != null);
+    }
+}
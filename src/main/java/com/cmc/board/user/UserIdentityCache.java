@@ -0,0 +1,66 @@
+package com.cmc.board.user;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일(로그인 아이디) -> 유저 식별 정보 캐시.
+ * 요청마다 users 테이블을 조회하지 않도록 크기와 TTL 이 제한된 인메모리 캐시에 보관한다.
+ * 탈퇴 처리 중인 유저는 get 에서 거절하므로, 탈퇴를 시작하면 캐시를 제거해서 다음 요청부터 막는다.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<String, UserIdentity> cache;
+
+    public UserIdentityCache(UserRepository userRepository,
+                             PrimaryReads primaryReads,
+                             @Value("${board.cache.user-identity.maximum-size:10000}") long maximumSize,
+                             @Value("${board.cache.user-identity.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 로그인, 토큰 재발급, 글/댓글/북마크 작성 등 서비스 요청용: 탈퇴 처리 중이면 USER_DELETING
+    // 탈퇴 중에 새로 쓴 행이 남으면 마지막 유저 행 삭제가 FK 로 실패한다
+    public UserIdentity get(String email) {
+        UserIdentity identity = find(email);
+        if (identity.isDeleting()) {
+            throw new BusinessLogicException(ExceptionCode.USER_DELETING);
+        }
+        return identity;
+    }
+
+    // 토큰 인증용: 탈퇴 처리 중이어도 반환한다 (탈퇴 진행 상황은 조회할 수 있도록)
+    // 캐시에 없을 때만 DB(primary) 에서 조회 (존재하지 않는 유저는 캐시하지 않음)
+    public UserIdentity find(String email) {
+        UserIdentity identity = cache.get(email, key -> primaryReads.read(() -> userRepository.findByEmail(key)
+                .map(UserIdentity::from)
+                .orElse(null)));
+        if (identity == null) {
+            throw new BusinessLogicException(ExceptionCode.USER_NOT_FOUND);
+        }
+        return identity;
+    }
+
+    public void put(User user) {
+        cache.put(user.getEmail(), UserIdentity.from(user));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
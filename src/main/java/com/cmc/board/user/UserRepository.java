@@ -1,7 +1,11 @@
 package com.cmc.board.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +14,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 로그인 성공 시 더 높은 work factor 로 다시 해싱한 비밀번호 저장
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    // 탈퇴 처리 중으로 표시 (이미 표시되어 있거나 유저가 없으면 0)
+    // 행 잠금으로 같은 유저의 동시 탈퇴 요청은 먼저 표시한 트랜잭션이 커밋될 때까지 기다린다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.deletingAt = local datetime where u.userId = :userId and u.deletingAt is null")
+    int markDeleting(@Param("userId") Long userId);
 }
@@ -1,34 +1,32 @@
 package com.cmc.board.user;
 
 import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ConstraintViolations;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.transaction.AfterCommit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDeleter userDeleter;
+    private final UserIdentityCache userIdentityCache;
 
     public void createUser(UserRequest request){
-        // 이메일이 중복되는지 확인
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BusinessLogicException(ExceptionCode.EMAIL_DUPLICATION);
-        }
-
-        // 닉네임이 중복되는지 확인
-        if (userRepository.existsByNickname(request.getNickname())) {
-            throw new BusinessLogicException(ExceptionCode.NICKNAME_DUPLICATION);
-        }
-
         User user = new User();
         user.setEmail(request.getEmail());
         user.setPassword(passwordEncoder.encode(request.getPassword())); // 암호화하여 저장
@@ -36,14 +34,43 @@ public class UserService {
         user.setUserRole(UserRole.USER);
         user.setCreatedAt(LocalDateTime.now());
 
-        userRepository.save(user);
+        // 이메일/닉네임 중복은 유니크 제약 조건으로 판단 (동시 가입 요청에도 안전)
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, User.UK_EMAIL)) {
+                throw new BusinessLogicException(ExceptionCode.EMAIL_DUPLICATION);
+            }
+            if (ConstraintViolations.isViolated(e, User.UK_NICKNAME)) {
+                throw new BusinessLogicException(ExceptionCode.NICKNAME_DUPLICATION);
+            }
+            throw e;
+        }
     }
 
-    public void deleteUser(String email){
+    // 작성한 글이 많으면 백그라운드에서 삭제하고, 진행 상황은 반환한 작업으로 조회한다
+    // 먼저 탈퇴 처리 중으로 표시하고 식별 정보 캐시를 비워, 삭제하는 동안 로그인과 새 글/댓글/북마크 작성을 막는다
+    // 같은 유저의 탈퇴가 이미 진행 중(또는 방금 끝남)이면 새로 시작하지 않고 그 작업을 반환한다
+    public UserDeletionJob deleteUser(String email){
         // 존재하는지 확인
         User user = userRepository.findByEmail(email)
                         .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
-        userRepository.delete(user);
+        if (userRepository.markDeleting(user.getUserId()) == 0) {
+            Optional<UserDeletionJob> existing = userDeleter.findByUser(user.getUserId());
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            // 실패했거나 다른 인스턴스(재시작 포함)에서 시작된 탈퇴는 이어서 다시 실행한다
+        }
+        AfterCommit.run(() -> userIdentityCache.evict(email));
+
+        return userDeleter.delete(user);
+    }
+
+    @Transactional(readOnly = true)
+    public UserDeletionJob findDeletionJob(String jobId, String email){
+        return userDeleter.find(jobId, email)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.DELETION_JOB_NOT_FOUND));
     }
 }
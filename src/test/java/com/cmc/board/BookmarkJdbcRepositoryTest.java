@@ -0,0 +1,122 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.Bookmark;
+import com.cmc.board.bookmark.BookmarkJdbcRepository;
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.common.exception.ConstraintViolations;
+import com.cmc.board.post.Post;
+import com.cmc.board.user.User;
+import com.cmc.board.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * [Narrative]
+ * 북마크 추가는 사전 조회 없이 한 문장으로 실행되고, 몇 번을 반복해도 (유저, 게시글)당 한 행만 남아야 한다.
+ * 존재하지 않는 게시글은 FK 제약 조건 이름으로 판별할 수 있어야 한다.
+ */
+@DataJpaTest
+@Import(BookmarkJdbcRepository.class)
+class BookmarkJdbcRepositoryTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private BookmarkJdbcRepository bookmarkJdbcRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("reader@test.com");
+        user.setPassword("password");
+        user.setNickname("reader");
+        user.setUserRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        em.persist(user);
+
+        post = new Post();
+        post.setTitle("제목");
+        post.setContent("내용");
+        post.setUser(user);
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        em.persist(post);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("같은 북마크를 반복 추가해도 한 행만 생긴다")
+    void insertIfAbsent_Idempotent() {
+        // [When]
+        int first = bookmarkJdbcRepository.insertIfAbsent(user.getUserId(), post.getPostId(), LocalDateTime.now());
+        int second = bookmarkJdbcRepository.insertIfAbsent(user.getUserId(), post.getPostId(), LocalDateTime.now());
+
+        // [Then]
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(bookmarkRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시퀀스로 키를 받는 JPA 저장과 섞여도 키가 겹치지 않는다")
+    void insertIfAbsent_SharesSequence() {
+        bookmarkJdbcRepository.insertIfAbsent(user.getUserId(), post.getPostId(), LocalDateTime.now());
+
+        Post other = new Post();
+        other.setTitle("다른 글");
+        other.setContent("내용");
+        other.setUser(user);
+        em.persist(other);
+        Bookmark bookmark = new Bookmark();
+        bookmark.setUser(user);
+        bookmark.setPost(other);
+        bookmarkRepository.saveAndFlush(bookmark);
+
+        assertThat(bookmarkRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글이면 FK 제약 조건 위반이 난다")
+    void insertIfAbsent_PostNotFound() {
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> bookmarkJdbcRepository.insertIfAbsent(user.getUserId(), Long.MAX_VALUE, LocalDateTime.now()),
+                DataIntegrityViolationException.class);
+
+        assertThat(ConstraintViolations.isViolated(e, Bookmark.FK_POST)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 게시글을 한 번의 배치로 추가하고, 이미 있는 북마크는 0 으로 알려준다")
+    void insertAllIfAbsent_Batch() {
+        // [Given]
+        bookmarkJdbcRepository.insertIfAbsent(user.getUserId(), post.getPostId(), LocalDateTime.now());
+        Post other = new Post();
+        other.setTitle("다른 글");
+        other.setContent("내용");
+        other.setUser(user);
+        em.persist(other);
+        em.flush();
+
+        // [When]
+        int[] counts = bookmarkJdbcRepository.insertAllIfAbsent(user.getUserId(),
+                List.of(post.getPostId(), other.getPostId()), LocalDateTime.now());
+
+        // [Then]
+        assertThat(counts).containsExactly(0, 1);
+        assertThat(bookmarkRepository.count()).isEqualTo(2);
+    }
+}
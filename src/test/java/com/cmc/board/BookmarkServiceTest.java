@@ -1,30 +1,48 @@
 package com.cmc.board;
 
 import com.cmc.board.bookmark.Bookmark;
+import com.cmc.board.bookmark.BookmarkJdbcRepository;
 import com.cmc.board.bookmark.BookmarkRepository;
 import com.cmc.board.bookmark.BookmarkService;
+import com.cmc.board.bookmark.BookmarkedPostResponse;
+import com.cmc.board.bookmark.BookmarkedPostSummary;
+import com.cmc.board.bookmark.BookmarkedPosts;
 import com.cmc.board.category.Category;
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.pagination.SliceResponse;
 import com.cmc.board.post.Post;
 import com.cmc.board.post.PostRepository;
 import com.cmc.board.post.PostResponse;
+import com.cmc.board.trending.Activity;
+import com.cmc.board.trending.TrendingPosts;
 import com.cmc.board.user.User;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
+import com.cmc.board.user.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,8 +55,12 @@ import static org.mockito.Mockito.*;
 class BookmarkServiceTest {
 
     @Mock private BookmarkRepository bookmarkRepository;
+    @Mock private BookmarkJdbcRepository bookmarkJdbcRepository;
     @Mock private PostRepository postRepository;
     @Mock private UserRepository userRepository;
+    @Mock private UserIdentityCache userIdentityCache;
+    @Mock private TrendingPosts trendingPosts;
+    @Mock private BookmarkedPosts bookmarkedPosts;
 
     @InjectMocks private BookmarkService bookmarkService;
 
@@ -46,27 +68,118 @@ class BookmarkServiceTest {
     @DisplayName("북마크 생성 테스트")
     class CreateBookmarkTest {
         @Test
-        @DisplayName("성공: 유효한 게시글과 유저로 북마크를 생성한다.")
+        @DisplayName("성공: 게시글, 유저 엔티티 조회 없이 한 문장(upsert)으로 북마크를 추가한다.")
         void createBookmark_Success() {
             // [Given]
             Long postId = 1L;
             String email = "test@test.com";
-            User user = new User(); user.setEmail(email);
-            Post post = new Post(); post.setPostId(postId);
-
-            given(postRepository.findById(postId)).willReturn(Optional.of(post));
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertIfAbsent(eq(7L), eq(postId), any())).willReturn(1);
 
             // [When]
             bookmarkService.createBookmark(postId, email);
 
             // [Then]
-            ArgumentCaptor<Bookmark> bookmarkCaptor = ArgumentCaptor.forClass(Bookmark.class);
-            verify(bookmarkRepository, times(1)).save(bookmarkCaptor.capture());
+            verify(postRepository, never()).findById(any());
+            verify(userRepository, never()).getReferenceById(any());
+            verify(trendingPosts, times(1)).record(postId, Activity.BOOKMARK, 1); // 인기 점수 반영
+            verify(bookmarkedPosts, times(1)).add(7L, postId); // 캐시된 북마크 집합 갱신
+        }
+
+        @Test
+        @DisplayName("성공: 이미 북마크한 게시글이면 아무것도 바꾸지 않고 성공한다.")
+        void createBookmark_AlreadyBookmarked() {
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertIfAbsent(eq(7L), eq(1L), any())).willReturn(0);
+
+            bookmarkService.createBookmark(1L, email);
+
+            verify(trendingPosts, never()).record(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 동시에 들어온 같은 요청과 경합해 유니크 제약에 걸려도 성공으로 처리한다.")
+        void createBookmark_ConcurrentDuplicate() {
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertIfAbsent(eq(7L), eq(1L), any())).willThrow(
+                    new DataIntegrityViolationException("x", new RuntimeException("Unique index violation: UK_BOOKMARKS_USER_POST")));
+
+            bookmarkService.createBookmark(1L, email);
+
+            verify(trendingPosts, never()).record(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("실패: 존재하지 않는 게시글이면 FK 위반을 POST_NOT_FOUND 로 바꾼다.")
+        void createBookmark_Fail_PostNotFound() {
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertIfAbsent(eq(7L), eq(99L), any())).willThrow(
+                    new DataIntegrityViolationException("x", new RuntimeException("Referential integrity constraint violation: FK_BOOKMARKS_POST")));
 
-            Bookmark savedBookmark = bookmarkCaptor.getValue();
-            assertThat(savedBookmark.getUser()).isEqualTo(user);
-            assertThat(savedBookmark.getPost()).isEqualTo(post);
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> bookmarkService.createBookmark(99L, email));
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.POST_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("성공: 중복을 뺀 게시글을 한 번의 배치 upsert 로 추가하고, 이미 북마크한 게시글은 건너뛴다.")
+        void createBookmarks_SingleBatch() {
+            // [Given] 게시글 1, 2, 3 중 2 는 이미 북마크됨
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertAllIfAbsent(eq(7L), eq(List.of(1L, 2L, 3L)), any()))
+                    .willReturn(new int[]{1, 0, 1});
+
+            // [When]
+            List<Long> created = bookmarkService.createBookmarks(List.of(1L, 2L, 3L, 1L), email);
+
+            // [Then] 배치 한 번으로 끝나고, 새로 추가한 게시글만 반환
+            assertThat(created).containsExactly(1L, 3L);
+            verify(bookmarkJdbcRepository, times(1)).insertAllIfAbsent(eq(7L), anyList(), any());
+            verify(bookmarkJdbcRepository, never()).insertIfAbsent(any(), any(), any());
+            verify(bookmarkedPosts, times(1)).add(7L, 1L);
+            verify(trendingPosts, times(1)).record(3L, Activity.BOOKMARK, 1);
+            verify(trendingPosts, never()).record(2L, Activity.BOOKMARK, 1);
+        }
+
+        @Test
+        @DisplayName("성공: 동시에 들어온 같은 요청과 겹쳐 배치가 유니크 제약에 걸리면, 실패한 행만 단건으로 다시 실행한다.")
+        void createBookmarks_FallbackOnBatchFailure() {
+            // [Given] 배치에서 게시글 1 은 추가, 2 는 동시에 추가된 행과 충돌
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            BatchUpdateException batch = new BatchUpdateException(
+                    "Unique index violation: UK_BOOKMARKS_USER_POST", new int[]{1, Statement.EXECUTE_FAILED});
+            given(bookmarkJdbcRepository.insertAllIfAbsent(eq(7L), eq(List.of(1L, 2L)), any()))
+                    .willThrow(new DataIntegrityViolationException("x", batch));
+            given(bookmarkJdbcRepository.insertIfAbsent(eq(7L), eq(2L), any())).willReturn(0);
+
+            // [When]
+            List<Long> created = bookmarkService.createBookmarks(List.of(1L, 2L), email);
+
+            // [Then] 배치에서 추가된 1 은 다시 실행하지 않는다
+            assertThat(created).containsExactly(1L);
+            verify(bookmarkJdbcRepository, never()).insertIfAbsent(eq(7L), eq(1L), any());
+            verify(bookmarkJdbcRepository, times(1)).insertIfAbsent(eq(7L), eq(2L), any());
+        }
+
+        @Test
+        @DisplayName("실패: 존재하지 않는 게시글이 섞여 있으면 POST_NOT_FOUND (트랜잭션 전체가 되돌려진다).")
+        void createBookmarks_Fail_PostNotFound() {
+            String email = "test@test.com";
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkJdbcRepository.insertAllIfAbsent(eq(7L), eq(List.of(1L, 99L)), any())).willThrow(
+                    new DataIntegrityViolationException("x", new RuntimeException("Referential integrity constraint violation: FK_BOOKMARKS_POST")));
+
+            BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                    () -> bookmarkService.createBookmarks(List.of(1L, 99L), email));
+
+            assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.POST_NOT_FOUND);
+            verify(bookmarkJdbcRepository, never()).insertIfAbsent(any(), any(), any());
+            verify(trendingPosts, never()).record(any(), any(), anyLong());
         }
     }
 
@@ -78,7 +191,7 @@ class BookmarkServiceTest {
         void findBookmarks_Success() {
             // [Given]
             String email = "test@test.com";
-            User user = new User(); user.setEmail(email);
+            User user = new User(); user.setUserId(7L); user.setEmail(email);
 
             // PostResponse 생성을 위해 연관 객체(User, Category) 세팅 필수
             User author = new User(); author.setNickname("작성자");
@@ -93,8 +206,8 @@ class BookmarkServiceTest {
             bookmark.setPost(post);
             bookmark.setUser(user);
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-            given(bookmarkRepository.findByUserOrderByBookmarkIdDesc(user)).willReturn(List.of(bookmark));
+            given(userIdentityCache.get(email)).willReturn(UserIdentity.from(user));
+            given(bookmarkRepository.findByUserUserIdOrderByBookmarkIdDesc(7L)).willReturn(List.of(bookmark));
 
             // [When]
             List<PostResponse> result = bookmarkService.findBookmarks(email);
@@ -104,49 +217,72 @@ class BookmarkServiceTest {
             assertThat(result.get(0).getTitle()).isEqualTo("북마크한 글");
             assertThat(result.get(0).getUser()).isEqualTo("작성자");
         }
+
+        @Test
+        @DisplayName("성공: 커서 조회는 (북마크 시각, 북마크 id) 다음 커서를 반환한다.")
+        void findBookmarksBefore_Success() {
+            // [Given] 북마크 시각은 마이크로초 단위까지 커서에 담긴다
+            String email = "test@test.com";
+            LocalDateTime bookmarkedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 678_901_000);
+            BookmarkedPostSummary summary = mock(BookmarkedPostSummary.class);
+            given(summary.getBookmarkId()).willReturn(30L);
+            given(summary.getBookmarkedAt()).willReturn(bookmarkedAt);
+            Pageable pageable = PageRequest.of(0, 1);
+
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkRepository.findBookmarkedBefore(eq(7L), any(), eq(Long.MAX_VALUE), eq(100), eq(pageable)))
+                    .willReturn(new SliceImpl<>(List.of(summary), pageable, true));
+            Slice<BookmarkedPostSummary> next = new SliceImpl<>(List.of(), pageable, false);
+            given(bookmarkRepository.findBookmarkedBefore(7L, bookmarkedAt, 30L, 100, pageable)).willReturn(next);
+
+            // [When] 첫 페이지, 다음 페이지
+            SliceResponse<BookmarkedPostResponse> first = bookmarkService.findBookmarksBefore(email, "", 1);
+            SliceResponse<BookmarkedPostResponse> second = bookmarkService.findBookmarksBefore(email, first.getNextCursor(), 1);
+
+            // [Then] 커서로 받은 시각이 그대로 다음 조회 조건이 된다
+            assertThat(first.getContent()).hasSize(1);
+            assertThat(first.getContent().get(0).isBookmarked()).isTrue();
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(second.getContent()).isEmpty();
+            assertThat(second.getNextCursor()).isNull();
+        }
     }
 
     @Nested
     @DisplayName("북마크 삭제 테스트")
     class RemoveBookmarkTest {
         @Test
-        @DisplayName("성공: 유저와 게시글 정보가 일치하는 북마크를 삭제한다.")
+        @DisplayName("성공: 조회 없이 유저와 게시글 id 로 바로 삭제한다.")
         void removeBookmark_Success() {
             // [Given]
             Long postId = 1L;
             String email = "test@test.com";
-            User user = new User(); user.setEmail(email);
-            Post post = new Post(); post.setPostId(postId);
-            Bookmark bookmark = new Bookmark();
+            UserIdentity user = new UserIdentity(7L, email, "유저", UserRole.USER);
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(post));
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-            given(bookmarkRepository.findByUserAndPost(user, post)).willReturn(Optional.of(bookmark));
+            given(userIdentityCache.get(email)).willReturn(user);
+            given(bookmarkRepository.deleteByUserIdAndPostId(7L, postId)).willReturn(1);
 
             // [When]
             bookmarkService.removeBookmark(postId, email);
 
-            // [Then]
-            verify(bookmarkRepository, times(1)).delete(bookmark);
+            // [Then] 게시글 엔티티 조회 없이 삭제
+            verify(bookmarkRepository, times(1)).deleteByUserIdAndPostId(7L, postId);
+            verify(bookmarkedPosts, times(1)).remove(7L, postId);
+            verify(postRepository, never()).findById(any());
         }
 
         @Test
-        @DisplayName("실패: 해당 북마크가 존재하지 않으면 예외가 발생한다.")
-        void removeBookmark_Fail_NotFound() {
+        @DisplayName("성공: 북마크가 없어도 예외 없이 성공한다 (멱등).")
+        void removeBookmark_NotBookmarked() {
             // [Given]
-            Long postId = 1L;
             String email = "test@test.com";
-            User user = new User();
-            Post post = new Post();
-
-            given(postRepository.findById(postId)).willReturn(Optional.of(post));
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-            given(bookmarkRepository.findByUserAndPost(user, post)).willReturn(Optional.empty());
+            given(userIdentityCache.get(email)).willReturn(new UserIdentity(7L, email, "유저", UserRole.USER));
+            given(bookmarkRepository.deleteByUserIdAndPostId(7L, 1L)).willReturn(0);
 
             // [When & Then]
-            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
-                    () -> bookmarkService.removeBookmark(postId, email));
-            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.BOOKMARK_NOT_FOUND);
+            bookmarkService.removeBookmark(1L, email);
+            bookmarkService.removeBookmark(1L, email);
+            verify(bookmarkRepository, times(2)).deleteByUserIdAndPostId(7L, 1L);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.BookmarkSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 유저의 북마크 게시글 집합은 정렬된 배열로 보관되며, 포함 여부 확인과 추가/제거가 정확해야 한다.
+ * 추가/제거는 기존 집합을 바꾸지 않고 새 집합을 만든다 (다른 요청이 읽는 중인 집합은 그대로).
+ */
+class BookmarkSetTest {
+
+    @Test
+    @DisplayName("정렬되지 않은 중복 id 로 만들어도 포함 여부를 정확히 확인한다")
+    void of_Contains() {
+        BookmarkSet bookmarks = BookmarkSet.of(List.of(30L, 10L, 20L, 10L));
+
+        assertThat(bookmarks.size()).isEqualTo(3);
+        assertThat(bookmarks.contains(10L)).isTrue();
+        assertThat(bookmarks.contains(20L)).isTrue();
+        assertThat(bookmarks.contains(15L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가/제거는 새 집합을 반환하고 기존 집합은 바뀌지 않는다")
+    void with_Without() {
+        // [Given]
+        BookmarkSet bookmarks = BookmarkSet.of(List.of(10L, 30L));
+
+        // [When]
+        BookmarkSet added = bookmarks.with(20L).with(5L).with(40L);
+        BookmarkSet removed = added.without(30L).without(99L);
+
+        // [Then]
+        assertThat(bookmarks.contains(20L)).isFalse();
+        assertThat(added.size()).isEqualTo(5);
+        assertThat(added.contains(5L) && added.contains(20L) && added.contains(40L)).isTrue();
+        assertThat(removed.size()).isEqualTo(4);
+        assertThat(removed.contains(30L)).isFalse();
+        assertThat(removed.contains(40L)).isTrue();
+        assertThat(added.with(20L)).isSameAs(added); // 이미 있으면 그대로
+    }
+}
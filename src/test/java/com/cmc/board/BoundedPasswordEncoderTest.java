@@ -0,0 +1,108 @@
+package com.cmc.board;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.config.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * [Narrative]
+ * 비밀번호 해싱은 전용 풀에서 제한된 수만 동시에 실행되어야 하고,
+ * 대기열이 가득 차면 요청을 기다리게 하지 않고 바로 SERVER_BUSY 로 거절해야 한다.
+ * work factor 를 올리면 기존 해시는 다시 해싱 대상이 되어야 한다.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("성공: 전용 풀에서 해싱하고 검증한다.")
+    void encodeAndMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, registry);
+
+        String hash = encoder.encode("password");
+
+        assertThat(encoder.matches("password", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 실행 중인 작업과 대기열이 모두 차면 바로 SERVER_BUSY 로 거절한다.")
+    void encode_Fail_Saturated() throws Exception {
+        // [Given] 스레드 1개, 대기열 1개를 모두 막아 둔다
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(release), 1, 1, registry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        awaitQueued(1);
+
+        // [When/Then]
+        BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> encoder.encode("c"));
+        assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.SERVER_BUSY);
+        assertThat(registry.get("board.password.rejected").counter().count()).isEqualTo(1.0);
+
+        // 자리가 나면 막혀 있던 작업은 정상 처리된다
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("성공: 설정보다 낮은 work factor 로 저장된 해시는 다시 해싱 대상이다.")
+    void upgradeEncoding() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 10, registry);
+        String weak = new BCryptPasswordEncoder(4).encode("password");
+        String current = new BCryptPasswordEncoder(6).encode("password");
+
+        assertThat(encoder.upgradeEncoding(weak)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+
+    private void awaitQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("board.password.queued").gauge().value() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기열이 차지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // release 될 때까지 해싱을 끝내지 않는 encoder
+    private static PasswordEncoder blocking(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
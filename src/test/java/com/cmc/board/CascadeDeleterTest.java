@@ -0,0 +1,152 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.Bookmark;
+import com.cmc.board.comment.Comment;
+import com.cmc.board.common.deletion.CascadeDeleter;
+import com.cmc.board.common.deletion.DeletionResult;
+import com.cmc.board.post.Post;
+import com.cmc.board.user.User;
+import com.cmc.board.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 게시글/댓글/유저 삭제는 엔티티를 한 건씩 지우지 않고 의존 순서대로 일괄 삭제되어야 한다.
+ * FK 위반 없이 대댓글까지 함께 지워지고, 남아 있는 게시글과 부모 댓글의 카운터는 실제 행 수로 맞춰져야 한다.
+ */
+@DataJpaTest
+@Import(CascadeDeleter.class)
+class CascadeDeleterTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private CascadeDeleter cascadeDeleter;
+
+    private User author;
+    private Post authorPost;
+    private Post otherPost;
+    private Comment authorReply;
+    private Comment otherComment;
+    private Comment otherReply;
+    private Comment authorComment;
+    private Comment authorReplyOnOther;
+
+    @BeforeEach
+    void setUp() {
+        author = em.persist(user("author"));
+        User other = em.persist(user("other"));
+        authorPost = em.persist(post(author));
+        otherPost = em.persist(post(other));
+
+        // 탈퇴할 유저의 게시글: 다른 유저의 댓글과 유저의 대댓글, 다른 유저의 북마크
+        Comment commentOnAuthorPost = em.persist(comment(other, authorPost, null));
+        authorReply = em.persist(comment(author, authorPost, commentOnAuthorPost));
+        Bookmark bookmark = new Bookmark();
+        bookmark.setUser(other);
+        bookmark.setPost(authorPost);
+        bookmark.setCreatedAt(LocalDateTime.now());
+        em.persist(bookmark);
+
+        // 다른 유저의 게시글: 유저의 댓글(+ 다른 유저의 대댓글), 다른 유저의 댓글(+ 유저의 대댓글)
+        authorComment = em.persist(comment(author, otherPost, null));
+        otherReply = em.persist(comment(other, otherPost, authorComment));
+        otherComment = em.persist(comment(other, otherPost, null));
+        authorReplyOnOther = em.persist(comment(author, otherPost, otherComment));
+        otherPost.setCommentCount(4);
+        otherComment.setChildCount(1);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 북마크, 댓글, 대댓글이 함께 삭제된다")
+    void deletePosts() {
+        // [When]
+        DeletionResult result = cascadeDeleter.deletePosts(List.of(authorPost.getPostId()));
+        em.clear();
+
+        // [Then]
+        assertThat(em.find(Post.class, authorPost.getPostId())).isNull();
+        assertThat(em.find(Comment.class, authorReply.getCommentId())).isNull();
+        assertThat(result.getCommentIds()).hasSize(2);
+        assertThat(result.getBookmarkCount()).isEqualTo(1);
+        assertThat(result.getTouchedPostIds()).isEmpty(); // 삭제된 게시글은 카운터 재계산 대상이 아니다
+        assertThat(em.find(Post.class, otherPost.getPostId()).getCommentCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 게시글에 남긴 댓글 삭제 시 대댓글도 삭제되고 카운터가 재계산된다")
+    void deleteComments() {
+        // [When]
+        DeletionResult result = cascadeDeleter.deleteComments(
+                List.of(authorComment.getCommentId(), authorReplyOnOther.getCommentId()));
+        em.clear();
+
+        // [Then] 유저의 댓글에 달린 다른 유저의 대댓글도 함께 삭제
+        assertThat(em.find(Comment.class, otherReply.getCommentId())).isNull();
+        assertThat(result.getCommentIds()).hasSize(3);
+        assertThat(result.getTouchedPostIds()).containsExactly(otherPost.getPostId());
+        assertThat(em.find(Post.class, otherPost.getPostId()).getCommentCount()).isEqualTo(1);
+        assertThat(em.find(Comment.class, otherComment.getCommentId()).getChildCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글과 댓글을 지운 뒤 유저를 삭제하면 유저의 북마크도 삭제된다")
+    void deleteUser() {
+        cascadeDeleter.deletePosts(List.of(authorPost.getPostId()));
+        cascadeDeleter.deleteComments(List.of(authorComment.getCommentId(), authorReplyOnOther.getCommentId()));
+
+        Bookmark bookmark = new Bookmark();
+        bookmark.setUser(em.find(User.class, author.getUserId()));
+        bookmark.setPost(em.find(Post.class, otherPost.getPostId()));
+        em.persist(bookmark);
+        em.flush();
+        em.clear();
+
+        assertThat(cascadeDeleter.deleteUser(author.getUserId())).isEqualTo(1);
+        em.flush();
+        em.clear();
+        assertThat(em.find(User.class, author.getUserId())).isNull();
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setNickname(name);
+        user.setUserRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    private Post post(User writer) {
+        Post post = new Post();
+        post.setTitle("제목");
+        post.setContent("내용");
+        post.setUser(writer);
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        return post;
+    }
+
+    private Comment comment(User writer, Post post, Comment parent) {
+        Comment comment = new Comment();
+        comment.setContent("댓글");
+        comment.setUser(writer);
+        comment.setPost(post);
+        comment.setParent(parent);
+        comment.setCreatedAt(LocalDateTime.now());
+        return comment;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cmc.board;
+
+import com.cmc.board.category.Category;
+import com.cmc.board.category.CategoryCache;
+import com.cmc.board.category.CategoryRepository;
+import com.cmc.board.common.transaction.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [Narrative]
+ * 카테고리 목록은 처음 한 번만 DB 에서 읽고, 이후 조회와 카테고리 검증은 스냅샷으로 처리해야 한다.
+ * 스냅샷에 없는 카테고리만 DB 에서 확인하며, 적중/실패 횟수를 지표로 남긴다.
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheTest {
+
+    @Mock private CategoryRepository categoryRepository;
+
+    private CategoryCache categoryCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryCache = new CategoryCache(categoryRepository, new PrimaryReads(null, false), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: 첫 조회에서만 DB 를 읽고 이후에는 스냅샷에서 반환한다.")
+    void findAll_LoadsOnce() {
+        given(categoryRepository.findAllByOrderByNameAsc()).willReturn(List.of(category(1L, "공지"), category(2L, "자유")));
+
+        categoryCache.findAll();
+        List<Category> result = categoryCache.findAll();
+        Optional<Category> found = categoryCache.find(2L);
+
+        assertThat(result).extracting(Category::getName).containsExactly("공지", "자유");
+        assertThat(found).map(Category::getName).hasValue("자유");
+        verify(categoryRepository, times(1)).findAllByOrderByNameAsc();
+        assertThat(categoryCache.getMisses()).isEqualTo(1);
+        assertThat(categoryCache.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷에 없는 카테고리는 PK 로 확인하고, 없으면 빈 값을 반환한다.")
+    void find_Unknown_ChecksDatabase() {
+        given(categoryRepository.findAllByOrderByNameAsc()).willReturn(List.of(category(1L, "공지")));
+        given(categoryRepository.findById(99L)).willReturn(Optional.empty());
+
+        Optional<Category> found = categoryCache.find(99L);
+
+        assertThat(found).isEmpty();
+        verify(categoryRepository, times(1)).findById(99L);
+    }
+
+    private Category category(Long id, String name) {
+        Category category = new Category();
+        category.setCategoryId(id);
+        category.setName(name);
+        return category;
+    }
+}
@@ -1,6 +1,7 @@
 package com.cmc.board;
 
 import com.cmc.board.category.Category;
+import com.cmc.board.category.CategoryCache;
 import com.cmc.board.category.CategoryRepository;
 import com.cmc.board.category.CategoryRequest;
 import com.cmc.board.category.CategoryService;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +41,9 @@ class CategoryServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private CategoryCache categoryCache;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -54,30 +59,32 @@ class CategoryServiceTest {
             Category category = new Category();
             category.setName(request.getName());
 
-            given(categoryRepository.existsByName(request.getName())).willReturn(false);
-            given(categoryRepository.save(any(Category.class))).willReturn(category);
+            given(categoryRepository.saveAndFlush(any(Category.class))).willReturn(category);
 
             // [When]
             Category result = categoryService.createCategory(request);
 
             // [Then]
             assertThat(result.getName()).isEqualTo("자유게시판");
-            verify(categoryRepository, times(1)).save(any(Category.class));
+            verify(categoryRepository, times(1)).saveAndFlush(any(Category.class));
+            verify(categoryCache, times(1)).refresh(); // 스냅샷 갱신
         }
 
         @Test
         @DisplayName("실패: 이미 존재하는 카테고리 이름이면 CATEGORY_DUPLICATION 예외가 발생한다.")
         void createCategory_Fail_Duplicate() {
-            // [Given]
+            // [Given] 카테고리 이름 유니크 제약 조건 위반
             CategoryRequest request = new CategoryRequest("중복이름");
-            given(categoryRepository.existsByName(request.getName())).willReturn(true);
+            given(categoryRepository.saveAndFlush(any(Category.class))).willThrow(
+                    new DataIntegrityViolationException("could not execute statement",
+                            new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_CATEGORIES_NAME_INDEX_A\"")));
 
             // [When & Then]
             BusinessLogicException ex = assertThrows(BusinessLogicException.class,
                     () -> categoryService.createCategory(request));
 
             assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.CATEGORY_DUPLICATION);
-            verify(categoryRepository, never()).save(any(Category.class));
+            verify(categoryCache, never()).refresh();
         }
     }
 
@@ -85,17 +92,17 @@ class CategoryServiceTest {
     @DisplayName("카테고리 조회 테스트")
     class FindCategoryTest {
         @Test
-        @DisplayName("성공: 모든 카테고리를 이름 오름차순으로 조회한다.")
+        @DisplayName("성공: 모든 카테고리를 이름 오름차순으로 조회한다. (DB 조회 없이 스냅샷 사용)")
         void findCategories_Success() {
             // [Given]
-            given(categoryRepository.findAllByOrderByNameAsc()).willReturn(List.of(new Category(), new Category()));
+            given(categoryCache.findAll()).willReturn(List.of(new Category(), new Category()));
 
             // [When]
             List<Category> result = categoryService.findCategories();
 
             // [Then]
             assertThat(result).hasSize(2);
-            verify(categoryRepository, times(1)).findAllByOrderByNameAsc();
+            verify(categoryRepository, never()).findAllByOrderByNameAsc();
         }
     }
 
@@ -118,6 +125,7 @@ class CategoryServiceTest {
 
             // [Then]
             verify(categoryRepository, times(1)).delete(category);
+            verify(categoryCache, times(1)).refresh();
         }
 
         @Test
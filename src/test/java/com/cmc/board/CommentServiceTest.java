@@ -3,21 +3,41 @@ package com.cmc.board;
 import com.cmc.board.comment.*;
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.http.ResourceVersion;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.common.transaction.PrimaryReads;
 import com.cmc.board.post.Post;
+import com.cmc.board.post.FeedVersion;
+import com.cmc.board.post.PostCache;
 import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.search.PostSearchIndex;
+import com.cmc.board.trending.Activity;
+import com.cmc.board.trending.TrendingPosts;
 import com.cmc.board.user.User;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
+import com.cmc.board.user.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -30,13 +50,20 @@ class CommentServiceTest {
     @Mock private CommentRepository commentRepository;
     @Mock private UserRepository userRepository;
     @Mock private PostRepository postRepository;
+    @Mock private UserIdentityCache userIdentityCache;
+    @Mock private PostCache postCache;
+    @Mock private FeedVersion feedVersion;
+    @Mock private PostSearchIndex postSearchIndex;
+    @Mock private TrendingPosts trendingPosts;
 
+    @Spy private PrimaryReads primaryReads = new PrimaryReads(null, false); // replica 없이 그대로 실행
     @InjectMocks private CommentService commentService;
 
     private User testUser;
     private Post testPost;
     private Comment testComment;
     private final String email = "user@test.com";
+    private final UserIdentity writer = new UserIdentity(1L, email, "작성자", UserRole.USER);
 
     @BeforeEach
     void setUp() {
@@ -62,7 +89,7 @@ class CommentServiceTest {
         void createComment_Success_PostOnly() {
             // [Given]
             CommentRequest request = new CommentRequest("내용", 1L, null);
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(testUser));
+            given(userIdentityCache.get(email)).willReturn(writer);
             given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
 
             // [When]
@@ -70,7 +97,11 @@ class CommentServiceTest {
 
             // [Then]
             assertThat(response.getContent()).isEqualTo("내용");
+            assertThat(response.getUser()).isEqualTo("작성자");
             verify(commentRepository, times(1)).save(any(Comment.class));
+            verify(postRepository, times(1)).addCommentCount(1L, 1); // 게시글 댓글 수 증가
+            verify(postCache, times(1)).invalidate(1L);
+            verify(trendingPosts, times(1)).record(1L, Activity.COMMENT, 1); // 인기 점수 반영
         }
 
         @Test
@@ -80,22 +111,88 @@ class CommentServiceTest {
             CommentRequest request = new CommentRequest("대댓글", null, 10L);
             Comment parentComment = new Comment();
             parentComment.setCommentId(10L);
+            parentComment.attachTo(null);
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(testUser));
+            given(userIdentityCache.get(email)).willReturn(writer);
             given(commentRepository.findById(10L)).willReturn(Optional.of(parentComment));
 
             // [When]
             commentService.createComment(request, email);
 
-            // [Then]
-            verify(commentRepository, times(1)).save(any(Comment.class));
+            // [Then] 부모의 path 뒤에 부모 id 를 붙인 path, 한 단계 아래 depth
+            ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+            verify(commentRepository, times(1)).save(captor.capture());
+            assertThat(captor.getValue().getPath()).isEqualTo("/0000000000000000010/");
+            assertThat(captor.getValue().getDepth()).isEqualTo(1);
             // parentId 분기가 실행되었는지 간접 확인 가능
+            verify(commentRepository, times(1)).addChildCount(10L, 1); // 부모 댓글의 대댓글 수 증가
+        }
+
+        @Test
+        @DisplayName("성공: 게시글 없이 작성한 대댓글은 부모 댓글의 게시글에 속한다")
+        void createComment_Success_InheritPostFromParent() {
+            CommentRequest request = new CommentRequest("대댓글", null, 10L);
+            Comment parentComment = new Comment();
+            parentComment.setCommentId(10L);
+            parentComment.setPost(testPost);
+
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(commentRepository.findById(10L)).willReturn(Optional.of(parentComment));
+
+            CommentResponse response = commentService.createComment(request, email);
+
+            assertThat(response.getPostId()).isEqualTo(1L);
+            verify(postRepository, times(1)).addCommentCount(1L, 1);
+            verify(commentRepository, times(1)).addChildCount(10L, 1);
+        }
+
+        @Test
+        @DisplayName("성공: 여러 댓글을 한 번에 작성하면 게시글/부모 댓글마다 카운터를 한 번씩 갱신한다")
+        void createComments_Success() {
+            // [Given] 게시글 1에 댓글 2개, 댓글 10에 대댓글 1개
+            Post otherPost = new Post();
+            otherPost.setPostId(2L);
+            Comment parent = new Comment();
+            parent.setCommentId(10L);
+            parent.setPost(otherPost);
+            List<CommentRequest> requests = List.of(
+                    new CommentRequest("첫 번째", 1L, null),
+                    new CommentRequest("두 번째", 1L, null),
+                    new CommentRequest("대댓글", null, 10L));
+
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(postRepository.findAllById(Set.of(1L))).willReturn(List.of(testPost));
+            given(commentRepository.findAllById(Set.of(10L))).willReturn(List.of(parent));
+
+            // [When]
+            List<CommentResponse> responses = commentService.createComments(requests, email);
+
+            // [Then] 한 번의 saveAll 로 저장 (insert 는 JDBC 배치로 묶임)
+            assertThat(responses).hasSize(3);
+            verify(commentRepository, times(1)).saveAll(anyList());
+            verify(postRepository, times(1)).addCommentCount(1L, 2);
+            verify(postRepository, times(1)).addCommentCount(2L, 1);
+            verify(commentRepository, times(1)).addChildCount(10L, 1);
+            verify(trendingPosts, times(1)).record(1L, Activity.COMMENT, 2);
+        }
+
+        @Test
+        @DisplayName("실패: 여러 댓글 중 게시글을 찾을 수 없는 것이 있으면 저장하지 않는다")
+        void createComments_Fail_PostNotFound() {
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(postRepository.findAllById(Set.of(99L))).willReturn(List.of());
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> commentService.createComments(List.of(new CommentRequest("내용", 99L, null)), email));
+
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.POST_NOT_FOUND);
+            verify(commentRepository, never()).saveAll(anyList());
         }
 
         @Test
         @DisplayName("실패: 유저를 찾을 수 없는 경우")
         void createComment_Fail_UserNotFound() {
-            given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+            given(userIdentityCache.get(email)).willThrow(new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
             assertThrows(BusinessLogicException.class, () -> commentService.createComment(new CommentRequest("내용", 1L, null), email));
         }
 
@@ -103,12 +200,26 @@ class CommentServiceTest {
         @DisplayName("실패: 부모 댓글(parentId)을 찾을 수 없는 경우")
         void createComment_Fail_CommentNotFound() {
             CommentRequest request = new CommentRequest("대댓글", null, 99L);
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(testUser));
+            given(userIdentityCache.get(email)).willReturn(writer);
             given(commentRepository.findById(99L)).willReturn(Optional.empty());
 
             BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> commentService.createComment(request, email));
             assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.COMMENT_NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("실패: 부모 댓글이 최대 깊이면 COMMENT_TOO_DEEP (path 컬럼 길이 초과 방지)")
+        void createComment_Fail_TooDeep() {
+            CommentRequest request = new CommentRequest("대댓글", null, 10L);
+            testComment.setPath("/");
+            testComment.setDepth(Comment.MAX_DEPTH);
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(commentRepository.findById(10L)).willReturn(Optional.of(testComment));
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> commentService.createComment(request, email));
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.COMMENT_TOO_DEEP);
+            verify(commentRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -143,6 +254,149 @@ class CommentServiceTest {
             // [Then]
             assertThat(responses).hasSize(1);
         }
+
+        @Test
+        @DisplayName("성공: 게시글의 최상위 댓글을 커서 기반으로 조회")
+        void findPostCommentsBefore_Success() {
+            // [Given] 커서 이후 페이지, 최대 개수(100)를 넘는 size 요청
+            Pageable pageable = PageRequest.of(0, CursorCodec.MAX_SIZE);
+            given(commentRepository.findTopLevelBefore(1L, 50L, pageable))
+                    .willReturn(new SliceImpl<>(List.of(testComment), pageable, true));
+
+            // [When]
+            SliceResponse<CommentResponse> response =
+                    commentService.findPostCommentsBefore(1L, CursorCodec.encode(50L), 1000);
+
+            // [Then]
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getNextCursor()).isEqualTo(CursorCodec.encode(10L));
+        }
+
+        @Test
+        @DisplayName("성공: 마지막 페이지의 대댓글 조회는 다음 커서가 없다")
+        void findChildCommentsBefore_LastPage() {
+            Pageable pageable = PageRequest.of(0, 20);
+            given(commentRepository.findChildrenBefore(10L, Long.MAX_VALUE, pageable))
+                    .willReturn(new SliceImpl<>(List.of(testComment), pageable, false));
+
+            SliceResponse<CommentResponse> response = commentService.findChildCommentsBefore(10L, "", 20);
+
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 조건부 요청이 아니면 캐시된 게시글로 댓글 목록 버전을 만들고 DB 는 조회하지 않는다")
+        void cachedCommentsVersion_FromCache() {
+            // [Given]
+            LocalDateTime lastCommentAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+            testPost.setCommentCount(2);
+            testPost.setLastCommentAt(lastCommentAt);
+            given(postCache.peek(1L)).willReturn(new PostResponse(testPost, "작성자", "자유"));
+
+            // [When]
+            ResourceVersion cached = commentService.cachedCommentsVersion(1L);
+            ResourceVersion notCached = commentService.cachedCommentsVersion(2L);
+
+            // [Then] 캐시에 없으면 검증자 없이 응답한다
+            assertThat(cached.getEtag()).isEqualTo("W/\"comments-1-2-" + ResourceVersion.millis(lastCommentAt) + "\"");
+            assertThat(notCached).isSameAs(ResourceVersion.NONE);
+            verifyNoInteractions(postRepository, commentRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 스레드 조회 (findCommentTree)")
+    class FindCommentTree {
+
+        @Test
+        @DisplayName("성공: 한 번의 범위 조회 결과를 부모-자식 트리로 조립한다")
+        void findCommentTree_WholePost() {
+            // [Given] 최상위 1, 2 / 1 의 대댓글 3 / 3 의 대댓글 4 (path 순서)
+            List<CommentNode> nodes = List.of(node(1L, null, 0), node(2L, null, 0), node(3L, 1L, 1), node(4L, 3L, 2));
+            given(commentRepository.findSubtree(eq(1L), eq("/%"), eq(Integer.MAX_VALUE - 1), eq(""), eq(0L), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(nodes));
+
+            // [When]
+            SliceResponse<CommentTreeResponse> response = commentService.findCommentTree(1L, null, null, null);
+
+            // [Then]
+            List<CommentTreeResponse> tree = response.getContent();
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(tree).extracting(CommentTreeResponse::getCommentId).containsExactly(1L, 2L);
+            CommentTreeResponse reply = tree.get(0).getReplies().get(0);
+            assertThat(reply.getCommentId()).isEqualTo(3L);
+            assertThat(reply.getReplies()).extracting(CommentTreeResponse::getCommentId).containsExactly(4L);
+            assertThat(tree.get(1).getReplies()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: root 를 주면 그 댓글의 path 접두사로 depth 단계 아래까지만 조회한다")
+        void findCommentTree_Subtree() {
+            // [Given] depth 1 인 댓글 10 의 서브트리를 2 단계까지
+            Comment root = new Comment();
+            root.setCommentId(10L);
+            root.setUser(testUser);
+            root.setPost(testPost);
+            root.setPath("/0000000000000000005/");
+            root.setDepth(1);
+            CommentNode reply = node(11L, 10L, 2);
+            given(commentRepository.findById(10L)).willReturn(Optional.of(root));
+            given(commentRepository.findSubtree(eq(1L), eq("/0000000000000000005/0000000000000000010/%"), eq(3), eq(""), eq(0L), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(reply)));
+
+            // [When]
+            List<CommentTreeResponse> tree = commentService.findCommentTree(1L, 10L, 2, null).getContent();
+
+            // [Then]
+            assertThat(tree).hasSize(1);
+            assertThat(tree.get(0).getReplies()).extracting(CommentTreeResponse::getCommentId).containsExactly(11L);
+        }
+
+        @Test
+        @DisplayName("실패: root 가 다른 게시글의 댓글이면 COMMENT_NOT_FOUND")
+        void findCommentTree_Fail_OtherPost() {
+            Post otherPost = new Post();
+            otherPost.setPostId(2L);
+            testComment.setPost(otherPost);
+            given(commentRepository.findById(10L)).willReturn(Optional.of(testComment));
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> commentService.findCommentTree(1L, 10L, null, null));
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.COMMENT_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("성공: 한도보다 많으면 잘렸다고 알리고, 마지막으로 읽은 댓글의 (path, id) 뒤부터 이어서 조회한다")
+        void findCommentTree_Continue() {
+            // [Given] 첫 페이지는 댓글 3 (path "/0000000000000000001/") 까지
+            CommentNode top = node(1L, null, 0);
+            CommentNode last = node(3L, 1L, 1);
+            CommentNode rest = node(4L, 3L, 2);
+            given(last.getPath()).willReturn("/0000000000000000001/");
+            given(commentRepository.findSubtree(eq(1L), eq("/%"), anyInt(), eq(""), eq(0L), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(top, last), PageRequest.of(0, 2), true));
+            given(commentRepository.findSubtree(eq(1L), eq("/%"), anyInt(), eq("/0000000000000000001/"), eq(3L), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(rest)));
+
+            // [When]
+            SliceResponse<CommentTreeResponse> first = commentService.findCommentTree(1L, null, null, null);
+            SliceResponse<CommentTreeResponse> next = commentService.findCommentTree(1L, null, null, first.getNextCursor());
+
+            // [Then] 이어진 페이지에서 부모가 앞 페이지에 있던 댓글은 최상위로 온다
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(first.getNextCursor()).isEqualTo(CursorCodec.encode(1L, 3L));
+            assertThat(next.isHasNext()).isFalse();
+            assertThat(next.getContent()).extracting(CommentTreeResponse::getParentId).containsExactly(3L);
+        }
+
+        private CommentNode node(Long commentId, Long parentId, int depth) {
+            CommentNode node = mock(CommentNode.class);
+            given(node.getCommentId()).willReturn(commentId);
+            lenient().when(node.getParentId()).thenReturn(parentId);
+            lenient().when(node.getDepth()).thenReturn(depth);
+            return node;
+        }
     }
 
     @Nested
@@ -177,6 +431,27 @@ class CommentServiceTest {
     @DisplayName("댓글 삭제 (removeComment)")
     class RemoveComment {
 
+        @Test
+        @DisplayName("성공: 함께 삭제되는 대댓글까지 게시글 댓글 수에서 차감")
+        void removeComment_Success_DecrementCounters() {
+            Comment parent = new Comment();
+            parent.setCommentId(5L);
+            Comment child = new Comment();
+            child.setCommentId(11L);
+            testComment.setPost(testPost);
+            testComment.setParent(parent);
+            testComment.getChildren().add(child);
+
+            given(commentRepository.findById(10L)).willReturn(Optional.of(testComment));
+
+            commentService.removeComment(10L, email);
+
+            verify(commentRepository, times(1)).delete(testComment);
+            verify(postRepository, times(1)).addCommentCount(1L, -2);
+            verify(commentRepository, times(1)).addChildCount(5L, -1);
+            verify(postSearchIndex, times(1)).removeComments(List.of(10L, 11L)); // 대댓글까지 색인에서 제거
+        }
+
         @Test
         @DisplayName("실패: 삭제 권한 없음")
         void removeComment_Fail_NotAuthorized() {
@@ -0,0 +1,99 @@
+package com.cmc.board;
+
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.config.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 가상 스레드 모드에서 동시에 처리하는 요청이 한도에 차면,
+ * 새 요청은 커넥션을 기다리지 않고 잠깐만 대기한 뒤 503 과 Retry-After 로 거절되어야 한다.
+ * 자리가 나면 다시 정상 처리되어야 하고, 운영용 엔드포인트는 제한하지 않는다.
+ */
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), registry);
+
+    @Test
+    @DisplayName("성공: 자리가 있으면 요청을 그대로 처리한다.")
+    void doFilter_Success() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(get("/posts"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(registry.get("board.concurrency.available").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패: 한도만큼 처리 중이면 대기 시간 후 503 과 Retry-After 로 거절하고, 자리가 나면 다시 처리한다.")
+    void doFilter_Fail_Saturated() throws Exception {
+        // [Given] 자리 1개를 막아 둔다
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(get("/posts"), new MockHttpServletResponse(), blocking(entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // [When]
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(get("/posts"), rejected, chain);
+
+        // [Then]
+        assertThat(chain.getRequest()).isNull();
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).isEqualTo(ExceptionCode.SERVER_BUSY.getMessage());
+        assertThat(registry.get("board.concurrency.rejected").counter().count()).isEqualTo(1.0);
+
+        // 운영용 엔드포인트는 한도와 무관하게 처리된다
+        MockFilterChain actuator = new MockFilterChain();
+        filter.doFilter(get("/actuator/health"), new MockHttpServletResponse(), actuator);
+        assertThat(actuator.getRequest()).isNotNull();
+
+        // 자리가 나면 다시 처리된다
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse after = new MockHttpServletResponse();
+        filter.doFilter(get("/posts"), after, new MockFilterChain());
+        assertThat(after.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    // release 될 때까지 끝나지 않는 요청
+    private static FilterChain blocking(CountDownLatch entered, CountDownLatch release) {
+        return (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
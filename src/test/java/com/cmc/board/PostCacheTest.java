@@ -0,0 +1,63 @@
+package com.cmc.board;
+
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.post.Post;
+import com.cmc.board.post.PostCache;
+import com.cmc.board.post.PostResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 조회수가 DB 에 반영되면 캐시된 게시글을 무효화하지 않고 반영된 만큼 조회수를 더해야 한다.
+ * 반영과 겹쳐서 로딩된 게시글은 DB 값에 반영분이 들어 있는지 알 수 없으므로 무효화해야 한다.
+ */
+class PostCacheTest {
+
+    private final PostCache postCache = new PostCache(true, 100, new PrimaryReads(null, false), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("성공: 반영 전에 로딩된 게시글은 반영된 조회수만큼 더한다.")
+    void addViewCounts_LoadedBefore() {
+        // [Given]
+        postCache.get(1L, id -> response(id, 10L));
+
+        // [When]
+        long flushStarted = postCache.beginViewFlush();
+        postCache.addViewCounts(flushStarted, Map.of(1L, 3L, 2L, 5L));
+
+        // [Then]
+        assertThat(postCache.peek(1L).getViewCount()).isEqualTo(13L);
+        assertThat(postCache.peek(2L)).isNull(); // 캐시에 없던 게시글은 로딩하지 않는다
+    }
+
+    @Test
+    @DisplayName("성공: 반영과 겹쳐 로딩된 게시글은 무효화하고, 다시 로딩된 뒤에는 다음 반영분을 더한다.")
+    void addViewCounts_LoadedDuringFlush() {
+        // [Given] DB 반영 중에 로딩 (반영분이 들어 있는지 알 수 없음)
+        long flushStarted = postCache.beginViewFlush();
+        postCache.get(1L, id -> response(id, 13L));
+
+        // [When]
+        postCache.addViewCounts(flushStarted, Map.of(1L, 3L));
+
+        // [Then]
+        assertThat(postCache.peek(1L)).isNull();
+
+        postCache.get(1L, id -> response(id, 13L));
+        postCache.addViewCounts(postCache.beginViewFlush(), Map.of(1L, 2L));
+        assertThat(postCache.peek(1L).getViewCount()).isEqualTo(15L);
+    }
+
+    private PostResponse response(Long postId, long viewCount) {
+        Post post = new Post();
+        post.setPostId(postId);
+        post.setViewCount(viewCount);
+        return new PostResponse(post, "작성자", "자유");
+    }
+}
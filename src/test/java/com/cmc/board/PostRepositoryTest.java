@@ -0,0 +1,278 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.Bookmark;
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.bookmark.BookmarkedPostSummary;
+import com.cmc.board.category.Category;
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.post.FeedVersion;
+import com.cmc.board.post.Post;
+import com.cmc.board.post.PostActivityCount;
+import com.cmc.board.post.PostCache;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostResponse;
+import com.cmc.board.post.PostSummary;
+import com.cmc.board.post.PostViewBucketRepository;
+import com.cmc.board.post.ViewCounter;
+import com.cmc.board.trending.TrendingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.cmc.board.user.User;
+import com.cmc.board.user.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * [Narrative]
+ * 게시글 목록과 북마크 목록은 게시글 수(N)와 상관없이 일정한 개수의 SQL 로 조회되어야 한다.
+ * 작성자/카테고리를 행마다 따로 조회(N+1)하는 회귀를 Hibernate 통계로 검출한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostRepositoryTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private PostRepository postRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private PostViewBucketRepository postViewBucketRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User reader;
+    private List<Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        // 작성자 5명, 카테고리 3개, 게시글 20개 (작성자/카테고리가 행마다 다르도록 섞는다)
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            authors.add(em.persist(user("author" + i)));
+        }
+        categories = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Category category = new Category();
+            category.setName("카테고리" + i);
+            categories.add(em.persist(category));
+        }
+        reader = em.persist(user("reader"));
+
+        LocalDateTime bookmarkedAt = LocalDateTime.now();
+        for (int i = 0; i < 20; i++) {
+            Post post = new Post();
+            post.setTitle("제목" + i);
+            post.setContent("내용" + i);
+            post.setUser(authors.get(i % authors.size()));
+            post.setCategory(categories.get(i % categories.size()));
+            post.setCreatedAt(LocalDateTime.now());
+            post.setUpdatedAt(LocalDateTime.now());
+            em.persist(post);
+
+            if (i % 2 == 0) {
+                Bookmark bookmark = new Bookmark();
+                bookmark.setUser(reader);
+                bookmark.setPost(post);
+                bookmark.setCreatedAt(bookmarkedAt.minusMinutes(i / 4)); // 같은 시각의 북마크가 섞이도록
+                em.persist(bookmark);
+            }
+        }
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("오프셋 목록 조회는 본문 조회 + count 쿼리, 2개의 SQL 로 끝난다.")
+    void findAll_Page_NoNPlusOne() {
+        List<PostResponse> responses = postRepository
+                .findAll(PageRequest.of(0, 10, Sort.by("postId").descending()))
+                .map(PostResponse::new)
+                .getContent();
+
+        assertThat(responses).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회는 1개의 SQL 로 끝나고 엔티티를 영속성 컨텍스트에 올리지 않는다.")
+    void findSummariesBefore_SingleStatement() {
+        List<PostResponse> responses = postRepository
+                .findSummariesBefore(Long.MAX_VALUE, 2, PageRequest.of(0, 10))
+                .map(PostResponse::new)
+                .getContent();
+
+        assertThat(responses).hasSize(10);
+        assertThat(responses.get(0).getContent()).hasSizeLessThanOrEqualTo(2);
+        assertThat(responses.get(0).getUser()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 커서 목록은 카테고리마다 한 페이지씩, 카테고리 수만큼의 SQL 로 읽어 최신순으로 합친다.")
+    void findSummariesByCategoriesBefore_PerCategory() {
+        // [Given] 카테고리 0, 1 (게시글 20개를 3개 카테고리에 번갈아 배정, 두 카테고리 합쳐 14개)
+        List<Long> categoryIds = List.of(categories.get(0).getCategoryId(), categories.get(1).getCategoryId());
+
+        // [When]
+        Slice<PostSummary> all = postRepository
+                .findSummariesByCategoriesBefore(categoryIds, Long.MAX_VALUE, 10, PageRequest.of(0, 20));
+        Slice<PostSummary> first = postRepository
+                .findSummariesByCategoriesBefore(categoryIds, Long.MAX_VALUE, 10, PageRequest.of(0, 5));
+
+        // [Then]
+        assertThat(all.getContent()).hasSize(14);
+        assertThat(all.hasNext()).isFalse();
+        assertThat(all.getContent()).extracting(PostSummary::getCategoryName).doesNotContain("카테고리2");
+        assertThat(all.getContent()).extracting(PostSummary::getPostId).isSortedAccordingTo(Comparator.reverseOrder());
+
+        // 첫 페이지는 전체 목록의 앞 5개와 같다
+        assertThat(first.getContent()).extracting(PostSummary::getPostId)
+                .containsExactlyElementsOf(all.getContent().subList(0, 5).stream().map(PostSummary::getPostId).toList());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4); // 조회 2번 x 카테고리 2개
+    }
+
+    @Test
+    @DisplayName("북마크 목록 조회는 게시글/작성자/카테고리를 포함해 1개의 SQL 로 끝난다.")
+    void findBookmarks_SingleStatement() {
+        List<PostResponse> responses = bookmarkRepository.findByUserUserIdOrderByBookmarkIdDesc(reader.getUserId()).stream()
+                .map(bookmark -> new PostResponse(bookmark.getPost()))
+                .toList();
+
+        assertThat(responses).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크 커서 목록은 (북마크 시각, id) 순으로 빠짐없이 이어지고 페이지마다 1개의 SQL 로 끝난다.")
+    void findBookmarkedBefore_KeysetPages() {
+        // [Given] 첫 페이지는 가장 최근부터
+        LocalDateTime at = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        long before = Long.MAX_VALUE;
+        List<Long> bookmarkIds = new ArrayList<>();
+
+        // [When] 3개씩 끝까지 넘긴다
+        Slice<BookmarkedPostSummary> page;
+        do {
+            statistics.clear();
+            page = bookmarkRepository.findBookmarkedBefore(reader.getUserId(), at, before, 10, PageRequest.of(0, 3));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            for (BookmarkedPostSummary summary : page.getContent()) {
+                assertThat(summary.getNickname()).isNotNull();
+                bookmarkIds.add(summary.getBookmarkId());
+                at = summary.getBookmarkedAt();
+                before = summary.getBookmarkId();
+            }
+        } while (page.hasNext());
+
+        // [Then] 중복/누락 없이 10개
+        assertThat(bookmarkIds).hasSize(10).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("생성 시각이 없던 예전 북마크는 백필 후 게시글 작성 시각으로 커서 목록에 나온다.")
+    void backfillCreatedAt_LegacyBookmark() {
+        // [Given] createdAt 컬럼 추가 전에 만들어진 북마크
+        Post post = postRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("제목1")) // 아직 북마크하지 않은 게시글
+                .findFirst().orElseThrow();
+        Bookmark legacy = new Bookmark();
+        legacy.setUser(em.find(User.class, reader.getUserId()));
+        legacy.setPost(post);
+        em.persist(legacy);
+        em.flush();
+        LocalDateTime at = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        assertThat(bookmarkRepository.findBookmarkedBefore(reader.getUserId(), at, Long.MAX_VALUE, 10,
+                PageRequest.of(0, 20))).hasSize(10); // NULL 은 키셋 조건에 걸리지 않는다
+
+        // [When]
+        int updated = bookmarkRepository.backfillCreatedAt();
+        em.clear();
+
+        // [Then]
+        assertThat(updated).isEqualTo(1);
+        assertThat(bookmarkRepository.findById(legacy.getBookmarkId()).orElseThrow().getCreatedAt())
+                .isEqualTo(postRepository.findById(post.getPostId()).orElseThrow().getCreatedAt());
+        assertThat(bookmarkRepository.findBookmarkedBefore(reader.getUserId(), at, Long.MAX_VALUE, 10,
+                PageRequest.of(0, 20))).hasSize(11);
+    }
+
+    @Test
+    @DisplayName("조회수 반영은 (게시글, 시간) 집계에도 더해지고, 재계산은 남아 있는 게시글의 집계만 읽는다.")
+    void viewBuckets_FlushAndCount() {
+        // [Given]
+        Long postId = postRepository.findAll().get(0).getPostId();
+        em.clear();
+        ViewCounter viewCounter = new ViewCounter(jdbcTemplate, TransactionOperations.withoutTransaction(),
+                new PostCache(true, 10, new PrimaryReads(null, false), new SimpleMeterRegistry()),
+                mock(TrendingService.class), new FeedVersion());
+
+        // [When] 두 번에 나눠 반영 (같은 시간이면 같은 행에 더한다), 없는 게시글의 조회수도 섞는다
+        viewCounter.increment(postId);
+        viewCounter.increment(postId);
+        viewCounter.increment(Long.MAX_VALUE);
+        viewCounter.flush();
+        viewCounter.increment(postId);
+        viewCounter.flush();
+
+        // [Then]
+        List<PostActivityCount> counts = postViewBucketRepository.countActivitiesSince(LocalDateTime.now().minusHours(1));
+        assertThat(counts).extracting(PostActivityCount::getPostId).containsOnly(postId);
+        assertThat(counts.stream().mapToLong(PostActivityCount::getActivityCount).sum()).isEqualTo(3L);
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("게시글을 수정하는 사이에 댓글이 작성되어도, 수정한 게시글 저장이 댓글 수를 덮어쓰지 않는다.")
+    void updatePost_KeepsConcurrentCommentCount() {
+        // [Given] 수정할 게시글을 로딩 (댓글 수 0)
+        Long postId = postRepository.findAll().get(0).getPostId();
+        em.clear();
+        Post post = postRepository.findById(postId).orElseThrow();
+
+        // [When] 로딩 후 다른 요청이 댓글을 작성하고 (원자적 UPDATE), 이어서 게시글 수정을 저장
+        postRepository.addCommentCount(postId, 1);
+        post.setTitle("수정된 제목");
+        post.setUpdatedAt(LocalDateTime.now());
+        postRepository.save(post);
+        em.flush();
+        em.clear();
+
+        // [Then]
+        Post saved = postRepository.findById(postId).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("수정된 제목");
+        assertThat(saved.getCommentCount()).isEqualTo(1);
+        assertThat(saved.getLastCommentAt()).isNotNull();
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setNickname(name);
+        user.setUserRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+}
@@ -0,0 +1,106 @@
+package com.cmc.board;
+
+import com.cmc.board.search.PostSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 사용자는 조사나 복합어가 붙은 한국어 글도 검색어로 찾을 수 있어야 하고,
+ * 제목에 검색어가 있는 글이 더 앞에 나와야 한다.
+ * 댓글 본문도 그 게시글의 검색 대상이며, 글/댓글을 수정·삭제하면 즉시 반영되어야 한다.
+ */
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex();
+        postSearchIndex.indexPost(1L, "자유게시판 이용 안내", "공지사항을 먼저 읽어주세요.");
+        postSearchIndex.indexPost(2L, "오늘 점심 메뉴", "학식에서 먹었는데 게시판에 후기 남깁니다.");
+        postSearchIndex.indexPost(3L, "Spring Boot 질문", "JPA N+1 문제가 생깁니다.");
+    }
+
+    @Test
+    @DisplayName("성공: 2-gram 으로 복합어 안의 단어를 찾고, 제목에 있는 글이 먼저 나온다.")
+    void search_KoreanBigram_TitleFirst() {
+        // [When]
+        List<Long> result = postSearchIndex.search("게시판");
+
+        // [Then]
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공: 영문은 대소문자 구분 없이 단어 단위로 찾는다.")
+    void search_LatinCaseInsensitive() {
+        assertThat(postSearchIndex.search("spring")).containsExactly(3L);
+        assertThat(postSearchIndex.search("jpa")).containsExactly(3L);
+        assertThat(postSearchIndex.search("sprin")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 댓글 본문으로도 게시글을 찾고, 댓글을 삭제하면 결과에서 빠진다.")
+    void search_Comment() {
+        // [Given]
+        postSearchIndex.indexComment(100L, 3L, "페치 조인을 써보세요");
+
+        // [When] & [Then]
+        assertThat(postSearchIndex.search("페치 조인")).containsExactly(3L);
+
+        postSearchIndex.removeComments(List.of(100L));
+        assertThat(postSearchIndex.search("페치 조인")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 게시글을 수정하면 이전 내용으로는 찾을 수 없다.")
+    void indexPost_Replace() {
+        // [When]
+        postSearchIndex.indexPost(2L, "오늘 저녁 메뉴", "라면");
+
+        // [Then]
+        assertThat(postSearchIndex.search("점심")).isEmpty();
+        assertThat(postSearchIndex.search("저녁")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 게시글을 삭제하면 그 게시글의 댓글까지 함께 제거된다.")
+    void removePost_WithComments() {
+        // [Given]
+        postSearchIndex.indexComment(100L, 1L, "감사합니다");
+
+        // [When]
+        postSearchIndex.removePost(1L);
+
+        // [Then]
+        assertThat(postSearchIndex.search("감사")).isEmpty();
+        assertThat(postSearchIndex.search("게시판")).containsExactly(2L);
+        assertThat(postSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 단어가 든 댓글 중 하나만 지우면 남은 댓글로 계속 찾고, 글을 수정해도 댓글 내용은 유지된다.")
+    void removeComments_KeepsOtherComments() {
+        // [Given]
+        postSearchIndex.indexComment(100L, 3L, "페치 조인을 써보세요");
+        postSearchIndex.indexComment(101L, 3L, "저도 페치 조인 추천합니다");
+
+        // [When]
+        postSearchIndex.removeComments(List.of(100L));
+        postSearchIndex.indexPost(3L, "Spring Boot 질문 (해결)", "JPA N+1 문제가 생깁니다.");
+
+        // [Then]
+        assertThat(postSearchIndex.search("페치 조인")).containsExactly(3L);
+        assertThat(postSearchIndex.search("해결")).containsExactly(3L);
+
+        postSearchIndex.removeComments(List.of(101L));
+        assertThat(postSearchIndex.search("페치 조인")).isEmpty();
+        assertThat(postSearchIndex.size()).isEqualTo(3);
+    }
+}
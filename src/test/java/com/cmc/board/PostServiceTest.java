@@ -1,12 +1,24 @@
 package com.cmc.board;
 
+import com.cmc.board.bookmark.BookmarkSet;
+import com.cmc.board.bookmark.BookmarkedPosts;
 import com.cmc.board.category.Category;
+import com.cmc.board.category.CategoryCache;
 import com.cmc.board.category.CategoryRepository;
+import com.cmc.board.common.deletion.CascadeDeleter;
 import com.cmc.board.common.exception.BusinessLogicException;
 import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.http.ResourceVersion;
+import com.cmc.board.common.pagination.CursorCodec;
+import com.cmc.board.common.pagination.SliceResponse;
+import com.cmc.board.common.transaction.PrimaryReads;
 import com.cmc.board.post.*;
+import com.cmc.board.search.PostSearchIndex;
 import com.cmc.board.user.User;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
 import com.cmc.board.user.UserRepository;
+import com.cmc.board.user.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,11 +26,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -32,13 +48,30 @@ class PostServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private PostRepository postRepository;
     @Mock private CategoryRepository categoryRepository;
-
+    @Mock private UserIdentityCache userIdentityCache;
+    @Mock private CategoryCache categoryCache;
+    @Mock private PostCache postCache;
+    @Mock private FeedVersion feedVersion;
+    @Mock private PostSearchIndex postSearchIndex;
+    @Mock private ViewCounter viewCounter;
+    @Mock private CascadeDeleter cascadeDeleter;
+    @Mock private BookmarkedPosts bookmarkedPosts;
+
+    @Spy private PrimaryReads primaryReads = new PrimaryReads(null, false); // replica 없이 그대로 실행
     @InjectMocks private PostService postService;
 
     private User testUser;
     private Category testCategory;
     private Post testPost;
     private final String email = "test@test.com";
+    private final UserIdentity writer = new UserIdentity(1L, email, "작성자", UserRole.USER);
+
+    // 캐시가 비어 있는 상황: loader 를 그대로 호출
+    private void givenPostCacheMiss() {
+        given(postCache.get(anyLong(), any())).willAnswer(invocation ->
+                invocation.<java.util.function.Function<Long, PostResponse>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
+    }
 
     @BeforeEach
     void setUp() {
@@ -65,13 +98,17 @@ class PostServiceTest {
         @DisplayName("성공: 정상적인 포스트 생성")
         void createPost_Success() {
             PostRequest request = new PostRequest("제목", "내용", 1L);
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(testUser));
-            given(categoryRepository.findById(1L)).willReturn(Optional.of(testCategory));
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(categoryCache.find(1L)).willReturn(Optional.of(testCategory));
 
             PostResponse response = postService.createPost(request, email);
 
             assertThat(response.getTitle()).isEqualTo("제목");
+            assertThat(response.getUser()).isEqualTo("작성자");
+            assertThat(response.getCategory()).isEqualTo("자유게시판");
             verify(postRepository, times(1)).save(any(Post.class));
+            verify(categoryRepository, never()).findById(any()); // 카테고리는 스냅샷으로 검증
+            verify(userRepository, never()).findByEmail(any()); // 작성자는 캐시에서 식별
         }
 
         @Test
@@ -88,7 +125,7 @@ class PostServiceTest {
         @DisplayName("실패: 존재하지 않는 유저 이메일인 경우")
         void createPost_Fail_UserNotFound() {
             PostRequest request = new PostRequest("제목", "내용", 1L);
-            given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+            given(userIdentityCache.get(email)).willThrow(new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
             assertThrows(BusinessLogicException.class, () -> postService.createPost(request, email));
         }
@@ -97,8 +134,8 @@ class PostServiceTest {
         @DisplayName("실패: 존재하지 않는 카테고리 ID인 경우")
         void createPost_Fail_CategoryNotFound() {
             PostRequest request = new PostRequest("제목", "내용", 1L);
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(testUser));
-            given(categoryRepository.findById(1L)).willReturn(Optional.empty());
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(categoryCache.find(1L)).willReturn(Optional.empty());
 
             assertThrows(BusinessLogicException.class, () -> postService.createPost(request, email));
         }
@@ -110,14 +147,47 @@ class PostServiceTest {
         @Test
         @DisplayName("단일 조회 성공")
         void findPost_Success() {
+            givenPostCacheMiss();
             given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
             PostResponse response = postService.findPost(1L);
             assertThat(response.getTitle()).isEqualTo("기존 제목");
         }
 
+        @Test
+        @DisplayName("단일 조회 성공: 캐시에 있으면 DB 를 조회하지 않음")
+        void findPost_Success_CacheHit() {
+            PostResponse cached = new PostResponse(testPost);
+            given(postCache.get(eq(1L), any())).willReturn(cached);
+
+            PostResponse response = postService.findPost(1L);
+
+            assertThat(response.getTitle()).isEqualTo(cached.getTitle());
+            verify(postRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("단일 조회 성공: 조회수는 DB 에 쓰지 않고 카운터에 더한 뒤, 반영 전 조회수와 이번 조회를 더해 응답")
+        void findPost_Success_CountsView() {
+            // [Given]
+            testPost.setViewCount(10L);
+            PostResponse cached = new PostResponse(testPost);
+            given(postCache.get(eq(1L), any())).willReturn(cached);
+            given(viewCounter.pending(1L)).willReturn(3L);
+
+            // [When]
+            PostResponse response = postService.findPost(1L);
+
+            // [Then]
+            assertThat(response.getViewCount()).isEqualTo(14L); // 이번 조회 포함
+            assertThat(cached.getViewCount()).isEqualTo(10L); // 캐시된 응답은 그대로
+            verify(viewCounter, times(1)).increment(1L);
+            verify(postRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("단일 조회 실패: 존재하지 않는 게시글")
         void findPost_Fail_NotFound() {
+            givenPostCacheMiss();
             given(postRepository.findById(1L)).willReturn(Optional.empty());
             assertThrows(BusinessLogicException.class, () -> postService.findPost(1L));
         }
@@ -128,11 +198,202 @@ class PostServiceTest {
             Pageable pageable = PageRequest.of(0, 10, Sort.by("postId").descending());
             given(postRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(testPost)));
 
-            List<PostResponse> result = postService.findPosts(0, 10);
+            List<PostResponse> result = postService.findPosts(0, 10, null);
 
             assertThat(result).hasSize(1);
             verify(postRepository, times(1)).findAll(pageable);
         }
+
+        @Test
+        @DisplayName("목록 조회 성공: 로그인한 유저가 북마크한 게시글에 isBookmarked 표시")
+        void findPosts_MarkBookmarked() {
+            // [Given] 게시글 1(북마크함), 2(안 함)
+            Post other = new Post();
+            other.setPostId(2L);
+            other.setUser(testPost.getUser());
+            other.setCategory(testPost.getCategory());
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("postId").descending());
+            given(postRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(other, testPost)));
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(bookmarkedPosts.get(writer.getUserId())).willReturn(BookmarkSet.of(List.of(1L, 5L)));
+
+            // [When]
+            List<PostResponse> result = postService.findPosts(0, 10, email);
+
+            // [Then] 북마크 집합 한 번 조회로 페이지 전체 표시
+            assertThat(result).extracting(PostResponse::isBookmarked).containsExactly(false, true);
+            verify(bookmarkedPosts, times(1)).get(writer.getUserId());
+        }
+
+        @Test
+        @DisplayName("커서 목록 조회 성공: 다음 페이지가 있으면 마지막 게시글 기준 커서를 반환")
+        void findPostsBefore_Success() {
+            Pageable pageable = PageRequest.of(0, 1);
+            PostSummary summary = mock(PostSummary.class);
+            given(summary.getPostId()).willReturn(1L);
+            given(summary.getPreview()).willReturn("기존");
+            given(postRepository.findSummariesBefore(Long.MAX_VALUE, 2, pageable))
+                    .willReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+            SliceResponse<PostResponse> result = postService.findPostsBefore("", 1, 2, null);
+
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getContent()).isEqualTo("기존");
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(1L));
+            verify(postRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("조회수순 커서 목록 조회 성공: 커서는 (조회수, 게시글 id)")
+        void findMostViewedPostsBefore_Success() {
+            Pageable pageable = PageRequest.of(0, 1);
+            PostSummary summary = mock(PostSummary.class);
+            given(summary.getPostId()).willReturn(7L);
+            given(summary.getViewCount()).willReturn(42L);
+            given(postRepository.findSummariesByViewsBefore(100L, 9L, 100, pageable))
+                    .willReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+            SliceResponse<PostResponse> result =
+                    postService.findMostViewedPostsBefore(CursorCodec.encode(100L, 9L), 1, 100, null);
+
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(42L, 7L));
+        }
+
+        @Test
+        @DisplayName("카테고리 목록 조회 성공: 중복을 뺀 카테고리들로 키셋 조회한다")
+        void findPostsByCategoriesBefore_Success() {
+            // [Given] 중복된 카테고리 id 는 한 번만 조회 조건에 들어간다
+            Pageable pageable = PageRequest.of(0, 20);
+            PostSummary summary = mock(PostSummary.class);
+            given(summary.getPostId()).willReturn(3L);
+            given(categoryCache.find(1L)).willReturn(Optional.of(testCategory));
+            given(categoryCache.find(2L)).willReturn(Optional.of(new Category()));
+            given(postRepository.findSummariesByCategoriesBefore(Set.of(1L, 2L), 50L, 100, pageable))
+                    .willReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+            // [When]
+            SliceResponse<PostResponse> result = postService.findPostsByCategoriesBefore(
+                    List.of(1L, 2L, 1L), CursorCodec.encode(50L), 20, 100, null);
+
+            // [Then]
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(3L));
+        }
+
+        @Test
+        @DisplayName("카테고리 목록 조회 실패: 없는 카테고리가 섞여 있으면 CATEGORY_NOT_FOUND")
+        void findPostsByCategoriesBefore_Fail_CategoryNotFound() {
+            given(categoryCache.find(1L)).willReturn(Optional.of(testCategory));
+            given(categoryCache.find(99L)).willReturn(Optional.empty());
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> postService.findPostsByCategoriesBefore(List.of(1L, 99L), "", 20, 100, null));
+
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.CATEGORY_NOT_FOUND);
+            verify(postRepository, never()).findSummariesByCategoriesBefore(any(), anyLong(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("카테고리 목록 조회 실패: 카테고리를 한도보다 많이 지정하면 TOO_MANY_CATEGORIES")
+        void findPostsByCategoriesBefore_Fail_TooMany() {
+            List<Long> categoryIds = LongStream.rangeClosed(1, 11).boxed().toList();
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> postService.findPostsByCategoriesBefore(categoryIds, "", 20, 100, null));
+
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.TOO_MANY_CATEGORIES);
+            verify(postRepository, never()).findSummariesByCategoriesBefore(any(), anyLong(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("커서 목록 조회 실패: 잘못된 커서")
+        void findPostsBefore_Fail_InvalidCursor() {
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> postService.findPostsBefore("not-a-cursor", 10, 100, null));
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 조회 버전 (findPostVersion & findFeedVersion)")
+    class FindVersion {
+
+        private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        @Test
+        @DisplayName("성공: 게시글을 로딩하지 않고 버전만 조회하며, 댓글 수가 바뀌면 ETag 도 바뀐다")
+        void findPostVersion_ChangesWithCommentCount() {
+            // [Given]
+            PostVersion initial = postVersion(0);
+            PostVersion commented = postVersion(1);
+            given(postRepository.findVersion(1L))
+                    .willReturn(Optional.of(initial), Optional.of(initial), Optional.of(commented));
+
+            // [When]
+            ResourceVersion first = postService.findPostVersion(1L);
+            ResourceVersion same = postService.findPostVersion(1L);
+            ResourceVersion afterComment = postService.findPostVersion(1L);
+
+            // [Then] 조회수와 무관한 약한 ETag
+            assertThat(first.getEtag()).startsWith("W/\"post-1-");
+            assertThat(same.getEtag()).isEqualTo(first.getEtag());
+            assertThat(afterComment.getEtag()).isNotEqualTo(first.getEtag());
+            assertThat(first.getLastModified()).isEqualTo(ResourceVersion.millis(updatedAt));
+            verify(postRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("실패: 없는 게시글이면 POST_NOT_FOUND")
+        void findPostVersion_Fail_NotFound() {
+            given(postRepository.findVersion(99L)).willReturn(Optional.empty());
+
+            BusinessLogicException ex = assertThrows(BusinessLogicException.class,
+                    () -> postService.findPostVersion(99L));
+            assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.POST_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("성공: 로그인 유저의 목록 버전은 북마크 버전이 바뀌면 달라지고, DB 는 조회하지 않는다")
+        void findFeedVersion_ChangesWithBookmarks() {
+            // [Given]
+            given(feedVersion.current()).willReturn("a1-3");
+            given(userIdentityCache.get(email)).willReturn(writer);
+            given(bookmarkedPosts.version(1L)).willReturn(7L, 8L);
+
+            // [When]
+            ResourceVersion before = postService.findFeedVersion(email);
+            ResourceVersion after = postService.findFeedVersion(email);
+
+            // [Then] 강한 ETag, 삭제는 시각으로 드러나지 않으므로 Last-Modified 는 없다
+            assertThat(before.getEtag()).isEqualTo("\"posts-a1-3-b7\"");
+            assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+            assertThat(before.getLastModified()).isEqualTo(-1);
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("성공: 캐시된 게시글이면 DB 조회 없이 응답과 같은 버전을 만든다")
+        void findPostVersion_FromCache() {
+            // [Given]
+            PostResponse cached = new PostResponse(testPost);
+            given(postCache.peek(1L)).willReturn(cached);
+
+            // [When]
+            ResourceVersion version = postService.findPostVersion(1L);
+
+            // [Then]
+            assertThat(version.getEtag()).isEqualTo(PostService.versionOf(cached).getEtag());
+            verify(postRepository, never()).findVersion(any());
+        }
+
+        private PostVersion postVersion(int commentCount) {
+            PostVersion version = mock(PostVersion.class);
+            given(version.getUpdatedAt()).willReturn(updatedAt);
+            given(version.getCommentCount()).willReturn(commentCount);
+            return version;
+        }
     }
 
     @Nested
@@ -145,13 +406,15 @@ class PostServiceTest {
             Category newCategory = new Category(); newCategory.setName("새카테고리");
 
             given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
-            given(categoryRepository.findById(2L)).willReturn(Optional.of(newCategory));
+            given(categoryCache.find(2L)).willReturn(Optional.of(newCategory));
+            given(categoryRepository.getReferenceById(2L)).willReturn(newCategory);
 
             postService.updatePost(1L, request, email);
 
             assertThat(testPost.getTitle()).isEqualTo("새제목");
             assertThat(testPost.getContent()).isEqualTo("새내용");
             assertThat(testPost.getCategory()).isEqualTo(newCategory);
+            verify(postCache, times(1)).invalidate(1L); // 캐시된 응답 무효화
         }
 
         @Test
@@ -171,7 +434,7 @@ class PostServiceTest {
         void updatePost_Fail_CategoryNotFound() {
             PostRequest request = new PostRequest(null, null, 99L);
             given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
-            given(categoryRepository.findById(99L)).willReturn(Optional.empty());
+            given(categoryCache.find(99L)).willReturn(Optional.empty());
 
             assertThrows(BusinessLogicException.class, () -> postService.updatePost(1L, request, email));
         }
@@ -196,7 +459,9 @@ class PostServiceTest {
         void removePost_Success() {
             given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
             postService.removePost(1L, email);
-            verify(postRepository, times(1)).delete(testPost);
+            verify(cascadeDeleter, times(1)).deletePosts(List.of(1L)); // 북마크, 댓글과 함께 일괄 삭제
+            verify(postCache, times(1)).invalidate(1L);
+            verify(viewCounter, times(1)).remove(List.of(1L)); // 삭제된 게시글의 조회수 카운터 정리
         }
 
         @Test
@@ -0,0 +1,85 @@
+package com.cmc.board;
+
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.config.ReplicaRoutingDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * readOnly 트랜잭션의 조회는 replica 에서, 쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 primary 에서 실행되어야 한다.
+ * 캐시를 채우는 조회(PrimaryReads)는 readOnly 트랜잭션 안에서도 primary 에서 실행되어야 한다.
+ * 두 H2 DB 에 서로 다른 값을 넣어 두고 어느 DB 에서 읽었는지로 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private PrimaryReads primaryReads;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        primaryReads = new PrimaryReads(transactionManager, true);
+    }
+
+    @Test
+    @DisplayName("성공: readOnly 트랜잭션은 replica 에서 읽는다.")
+    void readOnly_UsesReplica() {
+        String source = readOnly.execute(status -> jdbcTemplate.queryForObject("select name from source", String.class));
+
+        assertThat(source).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("성공: 쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 primary 를 사용한다.")
+    void readWrite_UsesPrimary() {
+        String inTransaction = readWrite.execute(status -> jdbcTemplate.queryForObject("select name from source", String.class));
+        String withoutTransaction = jdbcTemplate.queryForObject("select name from source", String.class);
+
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("성공: readOnly 트랜잭션 안에서도 PrimaryReads 는 primary 에서 읽고, 이후 조회는 다시 replica 를 사용한다.")
+    void primaryReads_UsesPrimary() {
+        String[] sources = readOnly.execute(status -> new String[]{
+                jdbcTemplate.queryForObject("select name from source", String.class),
+                primaryReads.read(() -> jdbcTemplate.queryForObject("select name from source", String.class)),
+                jdbcTemplate.queryForObject("select name from source", String.class)
+        });
+
+        assertThat(sources).containsExactly("replica", "primary", "replica");
+    }
+
+    private DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table source (name varchar(20))");
+        template.update("insert into source values (?)", name);
+        return dataSource;
+    }
+}
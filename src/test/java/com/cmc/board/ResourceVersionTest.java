@@ -0,0 +1,112 @@
+package com.cmc.board;
+
+import com.cmc.board.common.http.ResourceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Narrative]
+ * 폴링하는 클라이언트가 가진 버전이 현재와 같으면 본문 없이 304 로 응답해야 하고,
+ * 다르면 새 ETag, Last-Modified 를 받아 다음 요청에 보낼 수 있어야 한다.
+ */
+class ResourceVersionTest {
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private final ResourceVersion version = ResourceVersion.of("post-1-100-2", updatedAt);
+
+    @Test
+    @DisplayName("성공: 처음 조회하면 약한 ETag 와 Last-Modified 를 붙여 본문을 응답한다.")
+    void notModified_FirstRequest() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = version.notModified(new ServletWebRequest(get(), response));
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"post-1-100-2\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(ResourceVersion.millis(updatedAt));
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match 가 현재 ETag 와 같으면 304")
+    void notModified_IfNoneMatch() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"post-1-100-2\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(version.notModified(new ServletWebRequest(request, response))).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match 가 예전 ETag 면 본문을 다시 응답한다.")
+    void notModified_StaleEtag() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"post-1-100-1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(version.notModified(new ServletWebRequest(request, response))).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("성공: If-Modified-Since 이후 바뀐 게 없으면 304")
+    void notModified_IfModifiedSince() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, ResourceVersion.millis(updatedAt));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(version.notModified(new ServletWebRequest(request, response))).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("성공: 강한 ETag 는 따옴표만 붙이고 Last-Modified 없이 If-None-Match 로 비교한다.")
+    void notModified_Strong() {
+        ResourceVersion strong = ResourceVersion.strong("posts-a1-3");
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"posts-a1-3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(strong.getEtag()).isEqualTo("\"posts-a1-3\"");
+        assertThat(strong.getLastModified()).isEqualTo(-1);
+        assertThat(strong.notModified(new ServletWebRequest(request, response))).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("성공: 검증자가 없으면 항상 본문을 응답한다.")
+    void notModified_None() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"post-1-100-2\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(ResourceVersion.NONE.notModified(new ServletWebRequest(request, response))).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 조건부 헤더가 없으면 버전을 조회하지 않고, 응답한 본문의 버전을 헤더로 붙인다.")
+    void ok_Unconditional() {
+        MockHttpServletRequest request = get();
+
+        assertThat(ResourceVersion.isConditional(new ServletWebRequest(request))).isFalse();
+        ResponseEntity<String> response = version.ok("body");
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"post-1-100-2\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(ResourceVersion.millis(updatedAt));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeaders().getETag());
+        assertThat(ResourceVersion.isConditional(new ServletWebRequest(request))).isTrue();
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/posts/1");
+    }
+}
@@ -0,0 +1,119 @@
+package com.cmc.board;
+
+import com.cmc.board.auth.TokenCodec;
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.config.TokenAuthenticationFilter;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserIdentityCache;
+import com.cmc.board.user.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * [Narrative]
+ * 유효한 access 토큰은 세션 없이 인증되어야 하고, 잘못되었거나 만료된 토큰, 탈퇴 후 같은 이메일로 재가입한 계정의 토큰은
+ * 익명으로 넘겨서 permitAll 경로(/auth/refresh 등)는 그대로 처리되고 나머지는 entry point 가 401 을 결정해야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret!";
+    private static final String EMAIL = "token@test.com";
+
+    @Mock private UserIdentityCache userIdentityCache;
+
+    private final UserIdentity identity = new UserIdentity(1L, EMAIL, "토큰", UserRole.USER);
+    private final TokenCodec tokenCodec = codec(Duration.ofMinutes(15));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("성공: 유효한 토큰이면 이메일을 username 으로 하는 principal 로 인증한다.")
+    void validToken_Authenticates() throws Exception {
+        given(userIdentityCache.find(EMAIL)).willReturn(identity);
+
+        Authentication authentication = filter(tokenCodec.issueAccess(identity));
+
+        assertThat(authentication).isNotNull();
+        assertThat(((UserDetails) authentication.getPrincipal()).getUsername()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("성공: 만료된 토큰은 401 을 바로 쓰지 않고 익명으로 다음 필터에 넘긴다.")
+    void expiredToken_ContinuesAnonymously() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Authentication authentication = filter(codec(Duration.ofSeconds(-1)).issueAccess(identity), response);
+
+        assertThat(authentication).isNull();
+        assertThat(response.getStatus()).isEqualTo(200); // 상태는 entry point 가 정한다
+    }
+
+    @Test
+    @DisplayName("실패: 탈퇴 후 같은 이메일로 다시 가입한 계정(다른 userId)에는 예전 토큰으로 인증되지 않는다.")
+    void otherUserId_NotAuthenticated() throws Exception {
+        given(userIdentityCache.find(EMAIL)).willReturn(new UserIdentity(2L, EMAIL, "새 계정", UserRole.USER));
+
+        assertThat(filter(tokenCodec.issueAccess(identity))).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 탈퇴한 유저의 토큰으로는 인증되지 않는다.")
+    void deletedUser_NotAuthenticated() throws Exception {
+        given(userIdentityCache.find(EMAIL)).willThrow(new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+
+        assertThat(filter(tokenCodec.issueAccess(identity))).isNull();
+    }
+
+    // 필터를 통과한 뒤 다음 필터에서 보이는 인증 정보
+    private Authentication filter(String token) throws Exception {
+        return filter(token, new MockHttpServletResponse());
+    }
+
+    private Authentication filter(String token, MockHttpServletResponse response) throws Exception {
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        new TokenAuthenticationFilter(tokenCodec, userIdentityCache)
+                .doFilter(request(token), response, new MockFilterChain() {
+                    @Override
+                    public void doFilter(ServletRequest req, ServletResponse res) {
+                        seen.set(SecurityContextHolder.getContext().getAuthentication());
+                    }
+                });
+        return seen.get();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private static TokenCodec codec(Duration accessTtl) {
+        return new TokenCodec(new ObjectMapper(), SECRET, accessTtl, Duration.ofDays(14));
+    }
+}
@@ -0,0 +1,98 @@
+package com.cmc.board;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [Narrative]
+ * board.auth.mode=token 이면 세션 없이 Bearer 토큰으로만 인증되어야 한다.
+ * 토큰이 없거나 잘못된 요청은 보호된 경로에서 401 이고, 만료된 access 토큰을 계속 보내는 클라이언트도
+ * permitAll 경로인 /auth/refresh 로 토큰을 재발급받을 수 있어야 한다.
+ */
+@SpringBootTest(properties = {
+        "board.auth.mode=token",
+        "board.auth.token.secret=test-secret-test-secret-test-secret!",
+        "board.password.bcrypt-strength=4"
+})
+@AutoConfigureMockMvc
+class TokenAuthenticationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+
+    private String email;
+    private JsonNode tokens;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // [Given] 가입 후 토큰 발급
+        email = UUID.randomUUID() + "@test.com";
+        mockMvc.perform(post("/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"pw\",\"nickname\":\"" + email + "\"}"))
+                .andExpect(status().isOk());
+        MvcResult result = mockMvc.perform(post("/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        tokens = objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("성공: access 토큰으로 인증되고 세션 쿠키는 만들지 않는다.")
+    void bearerToken_Authenticates() throws Exception {
+        MvcResult result = mockMvc.perform(get("/categories")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 토큰이 없거나 잘못된 토큰이면 보호된 경로는 401")
+    void missingOrInvalidToken_Unauthorized() throws Exception {
+        mockMvc.perform(get("/categories"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/categories").header(HttpHeaders.AUTHORIZATION, "Bearer invalid.token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("성공: 잘못된 access 토큰을 함께 보내도 /auth/refresh 로 재발급받을 수 있다.")
+    void refresh_WithStaleBearerHeader() throws Exception {
+        mockMvc.perform(post("/auth/refresh")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer expired.token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + tokens.get("refreshToken").asText() + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("실패: refresh 토큰은 access 토큰으로 쓸 수 없다.")
+    void refreshTokenAsBearer_Unauthorized() throws Exception {
+        mockMvc.perform(get("/categories")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("refreshToken").asText()))
+                .andExpect(status().isUnauthorized());
+    }
+}
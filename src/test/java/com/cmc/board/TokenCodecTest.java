@@ -0,0 +1,107 @@
+package com.cmc.board;
+
+import com.cmc.board.auth.TokenClaims;
+import com.cmc.board.auth.TokenCodec;
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.user.UserIdentity;
+import com.cmc.board.user.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * [Narrative]
+ * 토큰 모드에서는 서명된 토큰만으로 요청을 인증하므로, 위조/변조되었거나 만료된 토큰,
+ * 종류가 다른 토큰(refresh 를 access 로 사용)은 반드시 거절되어야 한다.
+ */
+class TokenCodecTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret!";
+
+    private final UserIdentity identity = new UserIdentity(1L, "token@test.com", "토큰", UserRole.USER);
+    private final TokenCodec tokenCodec = codec(SECRET, Duration.ofMinutes(15));
+
+    @Test
+    @DisplayName("성공: 발급한 access 토큰을 검증하면 유저 정보를 그대로 돌려준다.")
+    void verify_RoundTrip() {
+        String token = tokenCodec.issueAccess(identity);
+
+        TokenClaims claims = tokenCodec.verify(token, TokenClaims.Type.ACCESS);
+
+        assertThat(claims.getUserId()).isEqualTo(1L);
+        assertThat(claims.getEmail()).isEqualTo("token@test.com");
+        assertThat(claims.getNickname()).isEqualTo("토큰");
+        assertThat(claims.getRole()).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("실패: 내용을 바꾸면 서명이 맞지 않아 거절한다.")
+    void verify_Fail_Tampered() {
+        String token = tokenCodec.issueAccess(identity);
+        String admin = codec(SECRET, Duration.ofMinutes(15))
+                .issueAccess(new UserIdentity(1L, "token@test.com", "토큰", UserRole.ADMIN));
+        // 다른 토큰의 내용(payload)에 이 토큰의 서명을 붙인다
+        String forged = admin.substring(0, admin.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertInvalid(forged, TokenClaims.Type.ACCESS);
+    }
+
+    @Test
+    @DisplayName("실패: 다른 secret 으로 서명한 토큰은 거절한다.")
+    void verify_Fail_OtherSecret() {
+        String token = codec("other-secret-other-secret-other-secret", Duration.ofMinutes(15)).issueAccess(identity);
+
+        assertInvalid(token, TokenClaims.Type.ACCESS);
+    }
+
+    @Test
+    @DisplayName("실패: 만료된 토큰은 거절한다.")
+    void verify_Fail_Expired() {
+        String token = codec(SECRET, Duration.ofSeconds(-1)).issueAccess(identity);
+
+        assertInvalid(token, TokenClaims.Type.ACCESS);
+    }
+
+    @Test
+    @DisplayName("실패: refresh 토큰은 access 토큰으로 쓸 수 없다.")
+    void verify_Fail_WrongType() {
+        String token = tokenCodec.issueRefresh(identity);
+
+        assertInvalid(token, TokenClaims.Type.ACCESS);
+        assertThat(tokenCodec.verify(token, TokenClaims.Type.REFRESH).getEmail()).isEqualTo("token@test.com");
+    }
+
+    @Test
+    @DisplayName("실패: 형식이 맞지 않는 토큰은 거절한다.")
+    void verify_Fail_Malformed() {
+        assertInvalid("not-a-token", TokenClaims.Type.ACCESS);
+        assertInvalid("abc.!!!", TokenClaims.Type.ACCESS);
+    }
+
+    @Test
+    @DisplayName("실패: 32바이트보다 짧은 secret 으로는 기동하지 않는다.")
+    void create_Fail_ShortSecret() {
+        assertThrows(IllegalStateException.class, () -> codec("short", Duration.ofMinutes(15)));
+    }
+
+    @Test
+    @DisplayName("실패: secret 이 없으면 기동하지 않는다 (인스턴스/재시작마다 키가 달라지지 않도록).")
+    void create_Fail_BlankSecret() {
+        assertThrows(IllegalStateException.class, () -> codec("", Duration.ofMinutes(15)));
+    }
+
+    private void assertInvalid(String token, TokenClaims.Type type) {
+        BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> tokenCodec.verify(token, type));
+        assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.INVALID_TOKEN);
+    }
+
+    private static TokenCodec codec(String secret, Duration accessTtl) {
+        return new TokenCodec(new ObjectMapper(), secret, accessTtl, Duration.ofDays(14));
+    }
+}
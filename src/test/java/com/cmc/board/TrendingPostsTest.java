@@ -0,0 +1,87 @@
+package com.cmc.board;
+
+import com.cmc.board.trending.Activity;
+import com.cmc.board.trending.TrendingPosts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * [Narrative]
+ * 인기 게시글은 최근 활동일수록 높은 점수를 받아야 하고, 오래된 활동은 반감기마다 절반씩 덜 반영되어야 한다.
+ * 메모리에는 정해진 개수의 후보만 유지하며, DB 재계산 결과로 언제든 전체를 교체할 수 있어야 한다.
+ */
+class TrendingPostsTest {
+
+    private TrendingPosts trendingPosts;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        // 반감기 1시간, top-2 (후보 8개)
+        trendingPosts = new TrendingPosts(Duration.ofHours(1), 2);
+        trendingPosts.replace(now, Map.of());
+    }
+
+    @Test
+    @DisplayName("성공: 가중치가 큰 활동(북마크 > 댓글 > 조회)이 많은 게시글이 먼저 나온다.")
+    void record_RankByWeight() {
+        // [Given]
+        trendingPosts.record(1L, Activity.VIEW, 4, now);
+        trendingPosts.record(2L, Activity.BOOKMARK, 1, now);
+        trendingPosts.record(3L, Activity.COMMENT, 1, now);
+
+        // [When] & [Then]
+        assertThat(trendingPosts.top(3)).containsExactly(2L, 1L, 3L);
+        assertThat(trendingPosts.top(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공: 2 반감기 전의 북마크(5 -> 1.25)보다 지금의 댓글(3)이 더 높다.")
+    void record_DecayOverTime() {
+        // [Given]
+        trendingPosts.record(1L, Activity.BOOKMARK, 1, now);
+        trendingPosts.record(2L, Activity.COMMENT, 1, now.plusHours(2));
+
+        // [When] & [Then]
+        assertThat(trendingPosts.top(2)).containsExactly(2L, 1L);
+        assertThat(trendingPosts.decay(Duration.ofHours(2))).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("성공: 후보가 가득 차면 가장 낮은 점수보다 큰 활동만 들어온다.")
+    void record_Bounded() {
+        // [Given] 후보 8개를 조회 2회씩으로 채움
+        for (long postId = 1; postId <= 8; postId++) {
+            trendingPosts.record(postId, Activity.VIEW, 2, now);
+        }
+
+        // [When]
+        trendingPosts.record(100L, Activity.VIEW, 1, now);      // 최저 점수(2)보다 낮음 -> 무시
+        trendingPosts.record(200L, Activity.BOOKMARK, 1, now);  // 5 -> 최저 후보를 밀어냄
+
+        // [Then]
+        assertThat(trendingPosts.top(20)).hasSize(8).contains(200L).doesNotContain(100L);
+        assertThat(trendingPosts.top(1)).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("성공: 재계산 결과로 교체하면 이전 점수는 사라진다.")
+    void replace_Reconcile() {
+        // [Given]
+        trendingPosts.record(1L, Activity.BOOKMARK, 10, now);
+
+        // [When]
+        trendingPosts.replace(now.plusMinutes(1), Map.of(2L, 3.0, 3L, 1.0));
+
+        // [Then]
+        assertThat(trendingPosts.top(10)).containsExactly(2L, 3L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.BookmarkRepository;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.post.PostActivityCount;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.PostViewBucketRepository;
+import com.cmc.board.trending.TrendingPosts;
+import com.cmc.board.trending.TrendingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [Narrative]
+ * 인기 점수 재계산은 최근 북마크/댓글/조회수를 행마다 읽지 않고 게시글, 시간 단위로 묶어 센 값으로 계산해야 한다.
+ * 조회수는 posts 전체를 읽지 않고 반영 시 모아 둔 시간 단위 집계를 읽어, 어느 인스턴스에서든 같은 순위가 나와야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock private PostRepository postRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private BookmarkRepository bookmarkRepository;
+    @Mock private PostViewBucketRepository postViewBucketRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private TrendingPosts trendingPosts;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        // 반감기 1시간
+        trendingPosts = new TrendingPosts(Duration.ofHours(1), 10);
+        trendingService = new TrendingService(trendingPosts, postRepository, commentRepository, bookmarkRepository,
+                postViewBucketRepository, 10, Duration.ofHours(72));
+    }
+
+    @Test
+    @DisplayName("성공: 북마크/댓글/조회수의 시간 단위 집계를 구간마다 감쇠시켜 점수를 만든다.")
+    void reconcile_Buckets() {
+        // [Given] 게시글 1: 4시간 전 북마크 1건 (약 5/16), 게시글 2: 이번 시간 댓글 3건 (약 9)
+        // 게시글 3: 이번 시간 조회 20회 (다른 인스턴스에서 반영된 조회수 포함), 게시글 4: 10시간 전 조회 50회 (약 50/1024)
+        given(bookmarkRepository.countActivitiesSince(any())).willReturn(List.of(bucket(1L, now.minusHours(4), 1)));
+        given(commentRepository.countActivitiesSince(any())).willReturn(List.of(bucket(2L, now, 3)));
+        given(postViewBucketRepository.countActivitiesSince(any()))
+                .willReturn(List.of(bucket(3L, now, 20), bucket(4L, now.minusHours(10), 50)));
+
+        // [When]
+        trendingService.reconcile();
+
+        // [Then]
+        assertThat(trendingPosts.top(10)).containsExactly(3L, 2L, 1L, 4L);
+        verifyNoInteractions(postRepository); // posts 를 읽지 않는다
+    }
+
+    @Test
+    @DisplayName("성공: 이 인스턴스가 반영한 조회수는 바로 더하고, 재계산하면 DB 집계로 바뀐다 (두 번 세지 않는다).")
+    void recordViews_ReplacedByReconcile() {
+        // [Given] 게시글 1 조회 20회 반영 (같은 조회수가 집계에도 들어 있다), 게시글 2 는 다른 인스턴스에서 조회 25회
+        trendingService.recordViews(1L, 20);
+        assertThat(trendingPosts.top(10)).containsExactly(1L);
+        given(postViewBucketRepository.countActivitiesSince(any()))
+                .willReturn(List.of(bucket(1L, now, 20), bucket(2L, now, 25)));
+
+        // [When]
+        trendingService.reconcile();
+
+        // [Then] 게시글 1 을 두 번 셌다면 (40) 게시글 2 보다 앞선다
+        assertThat(trendingPosts.top(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공: 재계산 기간이 지난 조회수 집계를 삭제한다.")
+    void purgeViewBuckets() {
+        trendingService.purgeViewBuckets();
+
+        verify(postViewBucketRepository).deleteBefore(any(LocalDateTime.class));
+    }
+
+    private PostActivityCount bucket(Long postId, LocalDateTime at, long count) {
+        PostActivityCount bucket = mock(PostActivityCount.class);
+        given(bucket.getPostId()).willReturn(postId);
+        given(bucket.getBucketDate()).willReturn(at.toLocalDate());
+        given(bucket.getBucketHour()).willReturn(at.getHour());
+        given(bucket.getActivityCount()).willReturn(count);
+        return bucket;
+    }
+}
@@ -0,0 +1,147 @@
+package com.cmc.board;
+
+import com.cmc.board.bookmark.BookmarkedPosts;
+import com.cmc.board.comment.CommentRepository;
+import com.cmc.board.common.deletion.CascadeDeleter;
+import com.cmc.board.common.deletion.DeletionResult;
+import com.cmc.board.post.FeedVersion;
+import com.cmc.board.post.PostCache;
+import com.cmc.board.post.PostRepository;
+import com.cmc.board.post.ViewCounter;
+import com.cmc.board.search.PostSearchIndex;
+import com.cmc.board.user.User;
+import com.cmc.board.user.UserDeleter;
+import com.cmc.board.user.UserDeletionJob;
+import com.cmc.board.user.UserIdentityCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [Narrative]
+ * 회원 탈퇴는 게시글 -> 다른 게시글의 댓글 -> 북마크/유저 순서로 청크 단위 삭제되어야 한다.
+ * 삭제할 행이 많으면 요청 스레드가 아닌 백그라운드에서 실행되고, 진행 상황을 조회할 수 있어야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDeleterTest {
+
+    @Mock private PostRepository postRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private CascadeDeleter cascadeDeleter;
+    @Mock private UserIdentityCache userIdentityCache;
+    @Mock private PostCache postCache;
+    @Mock private ViewCounter viewCounter;
+    @Mock private FeedVersion feedVersion;
+    @Mock private PostSearchIndex postSearchIndex;
+    @Mock private BookmarkedPosts bookmarkedPosts;
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final Executor executor = scheduled::add;
+    private final String email = "delete@test.com";
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUserId(1L);
+        user.setEmail(email);
+    }
+
+    @Test
+    @DisplayName("삭제할 행이 적으면 요청 안에서 청크 순서대로 삭제하고 완료 상태가 된다")
+    void delete_Sync() {
+        // [Given] 게시글 2개, 다른 게시글에 남긴 댓글 1개
+        UserDeleter deleter = deleter(1000);
+        given(postRepository.countByUserUserId(1L)).willReturn(2L);
+        given(commentRepository.countByUserUserId(1L)).willReturn(1L);
+        given(postRepository.findPostIdsByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(10L, 11L), List.of());
+        given(commentRepository.findIdsByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(20L), List.of());
+        given(cascadeDeleter.deletePosts(List.of(10L, 11L))).willReturn(new DeletionResult());
+        given(cascadeDeleter.deleteComments(List.of(20L))).willReturn(new DeletionResult());
+
+        // [When]
+        UserDeletionJob job = deleter.delete(user);
+
+        // [Then]
+        assertThat(scheduled).isEmpty();
+        assertThat(job.getStatus()).isEqualTo(UserDeletionJob.Status.COMPLETED);
+        var order = inOrder(cascadeDeleter, userIdentityCache);
+        order.verify(cascadeDeleter).deletePosts(List.of(10L, 11L));
+        order.verify(cascadeDeleter).deleteComments(List.of(20L));
+        order.verify(cascadeDeleter).deleteUser(1L);
+        order.verify(userIdentityCache).evict(email);
+        verify(bookmarkedPosts).evict(1L);
+        assertThat(deleter.find(job.getJobId(), email)).contains(job);
+        assertThat(deleter.find(job.getJobId(), "other@test.com")).isEmpty(); // 다른 유저는 조회할 수 없다
+    }
+
+    @Test
+    @DisplayName("삭제하는 사이 새로 쓴 게시글이 있으면 유저 행을 지우기 직전에 한 번 더 지운다")
+    void delete_ResweepsBeforeUserRow() {
+        // [Given] 첫 번째 삭제가 끝난 뒤 (다른 인스턴스의 캐시로 인증된 요청이) 게시글 12 를 썼다
+        UserDeleter deleter = deleter(1000);
+        given(postRepository.findPostIdsByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(10L), List.of(), List.of(12L), List.of());
+        given(commentRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(cascadeDeleter.deletePosts(anyList())).willReturn(new DeletionResult());
+
+        // [When]
+        UserDeletionJob job = deleter.delete(user);
+
+        // [Then]
+        assertThat(job.getStatus()).isEqualTo(UserDeletionJob.Status.COMPLETED);
+        var order = inOrder(cascadeDeleter);
+        order.verify(cascadeDeleter).deletePosts(List.of(10L));
+        order.verify(cascadeDeleter).deletePosts(List.of(12L));
+        order.verify(cascadeDeleter).deleteUser(1L);
+        assertThat(deleter.findByUser(1L)).contains(job);
+    }
+
+    @Test
+    @DisplayName("삭제할 행이 많으면 백그라운드 작업으로 넘기고 진행 중 상태를 반환한다")
+    void delete_Async() {
+        UserDeleter deleter = deleter(1);
+        given(postRepository.countByUserUserId(1L)).willReturn(5L);
+        given(commentRepository.countByUserUserId(1L)).willReturn(0L);
+
+        UserDeletionJob job = deleter.delete(user);
+
+        assertThat(job.getStatus()).isEqualTo(UserDeletionJob.Status.RUNNING);
+        assertThat(scheduled).hasSize(1);
+        verifyNoInteractions(cascadeDeleter);
+        assertThat(deleter.find(job.getJobId(), email)).contains(job); // 진행 중에도 본인은 조회할 수 있다
+    }
+
+    @Test
+    @DisplayName("삭제 중 예외가 나면 작업이 실패 상태가 된다")
+    void delete_Fail() {
+        UserDeleter deleter = deleter(1000);
+        given(postRepository.findPostIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of(10L));
+        given(cascadeDeleter.deletePosts(List.of(10L))).willThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> deleter.delete(user)).isInstanceOf(IllegalStateException.class);
+        verify(cascadeDeleter, never()).deleteUser(1L);
+        verify(userIdentityCache, never()).evict(email);
+    }
+
+    private UserDeleter deleter(long asyncThreshold) {
+        return new UserDeleter(postRepository, commentRepository, cascadeDeleter,
+                userIdentityCache, postCache, viewCounter, feedVersion, postSearchIndex, bookmarkedPosts, executor, asyncThreshold);
+    }
+}
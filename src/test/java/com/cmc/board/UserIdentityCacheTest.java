@@ -0,0 +1,96 @@
+package com.cmc.board;
+
+import com.cmc.board.common.exception.BusinessLogicException;
+import com.cmc.board.common.exception.ExceptionCode;
+import com.cmc.board.common.transaction.PrimaryReads;
+import com.cmc.board.user.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [Narrative]
+ * 인증된 유저의 식별 정보는 한 번 조회한 뒤에는 users 테이블을 다시 조회하지 않아야 한다.
+ * 탈퇴 등으로 캐시가 제거되면 다음 요청에서 다시 조회해야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserIdentityCacheTest {
+
+    @Mock private UserRepository userRepository;
+
+    private UserIdentityCache userIdentityCache;
+    private User user;
+    private final String email = "cache@test.com";
+
+    @BeforeEach
+    void setUp() {
+        userIdentityCache = new UserIdentityCache(userRepository, new PrimaryReads(null, false), 100, Duration.ofMinutes(10));
+
+        user = new User();
+        user.setUserId(1L);
+        user.setEmail(email);
+        user.setNickname("캐시");
+        user.setUserRole(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("성공: 두 번째 조회부터는 DB 를 조회하지 않는다.")
+    void get_CachesIdentity() {
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+
+        UserIdentity first = userIdentityCache.get(email);
+        UserIdentity second = userIdentityCache.get(email);
+
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("성공: 캐시를 제거하면 다음 조회 시 DB 를 다시 조회한다.")
+    void evict_ReloadsIdentity() {
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+
+        userIdentityCache.get(email);
+        userIdentityCache.evict(email);
+        userIdentityCache.get(email);
+
+        verify(userRepository, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 유저는 USER_NOT_FOUND 예외가 발생하고 캐시되지 않는다.")
+    void get_Fail_NotFound() {
+        given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+
+        BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> userIdentityCache.get(email));
+        assertThrows(BusinessLogicException.class, () -> userIdentityCache.get(email));
+
+        assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.USER_NOT_FOUND);
+        verify(userRepository, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("실패: 탈퇴 처리 중인 유저는 USER_DELETING 예외가 발생하고, 토큰 인증용 조회에서만 반환된다.")
+    void get_Fail_Deleting() {
+        user.setDeletingAt(LocalDateTime.now());
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+
+        BusinessLogicException ex = assertThrows(BusinessLogicException.class, () -> userIdentityCache.get(email));
+
+        assertThat(ex.getExceptionCode()).isEqualTo(ExceptionCode.USER_DELETING);
+        assertThat(userIdentityCache.find(email).isDeleting()).isTrue();
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -35,6 +36,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDeleter userDeleter;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
     @InjectMocks
     private UserService userService; // Mock들을 주입받은 테스트 대상 객체
 
@@ -49,18 +56,16 @@ class UserServiceTest {
             UserRequest request = new UserRequest("test@test.com", "password123", "테스터");
             String encodedPassword = "encoded_password";
 
-            given(userRepository.existsByEmail(request.getEmail())).willReturn(false);
-            given(userRepository.existsByNickname(request.getNickname())).willReturn(false);
             given(passwordEncoder.encode(request.getPassword())).willReturn(encodedPassword);
 
             // [When] 회원 가입 실행
             userService.createUser(request);
 
             // [Then] 검증
-            // 1. userRepository.save가 호출되었는지 확인
+            // 1. userRepository.saveAndFlush가 호출되었는지 확인 (중복은 유니크 제약 조건으로 즉시 검출)
             // 2. 저장되는 데이터의 비밀번호가 암호화되었는지 확인 (ArgumentCaptor 활용)
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository, times(1)).save(userCaptor.capture());
+            verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
 
             User savedUser = userCaptor.getValue();
             assertThat(savedUser.getEmail()).isEqualTo(request.getEmail());
@@ -71,9 +76,10 @@ class UserServiceTest {
         @Test
         @DisplayName("실패: 이메일 중복 시 EMAIL_DUPLICATION 예외가 발생한다.")
         void createUser_Fail_DuplicateEmail() {
-            // [Given] 이미 존재하는 이메일 설정
+            // [Given] 이메일 유니크 제약 조건 위반
             UserRequest request = new UserRequest("duplicate@test.com", "password", "nick");
-            given(userRepository.existsByEmail(request.getEmail())).willReturn(true);
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(uniqueViolation("PUBLIC.UK_USERS_EMAIL_INDEX_4 ON PUBLIC.USERS(EMAIL)"));
 
             // [When & Then] 실행 및 예외 검증
             BusinessLogicException exception = assertThrows(BusinessLogicException.class, () -> {
@@ -81,7 +87,26 @@ class UserServiceTest {
             });
 
             assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.EMAIL_DUPLICATION);
-            verify(userRepository, never()).save(any(User.class)); // 저장 로직이 호출되면 안 됨
+        }
+
+        @Test
+        @DisplayName("실패: 닉네임 중복 시 NICKNAME_DUPLICATION 예외가 발생한다.")
+        void createUser_Fail_DuplicateNickname() {
+            // [Given] 닉네임 유니크 제약 조건 위반
+            UserRequest request = new UserRequest("new@test.com", "password", "duplicate");
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(uniqueViolation("PUBLIC.UK_USERS_NICKNAME_INDEX_4 ON PUBLIC.USERS(NICKNAME)"));
+
+            // [When & Then]
+            BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                    () -> userService.createUser(request));
+
+            assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.NICKNAME_DUPLICATION);
+        }
+
+        private DataIntegrityViolationException uniqueViolation(String index) {
+            return new DataIntegrityViolationException("could not execute statement",
+                    new RuntimeException("Unique index or primary key violation: \"" + index + "\""));
         }
     }
 
@@ -95,15 +120,45 @@ class UserServiceTest {
             // [Given] 존재하는 유저 설정
             String email = "delete@test.com";
             User user = new User();
+            user.setUserId(1L);
             user.setEmail(email);
 
+            UserDeletionJob job = mock(UserDeletionJob.class);
             given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+            given(userRepository.markDeleting(1L)).willReturn(1);
+            given(userDeleter.delete(user)).willReturn(job);
 
             // [When] 회원 탈퇴 실행
-            userService.deleteUser(email);
+            UserDeletionJob result = userService.deleteUser(email);
+
+            // [Then] 탈퇴 처리 중으로 표시하고 식별 정보 캐시를 비운 뒤 (로그인, 쓰기 차단) 삭제를 위임하고 진행 상황을 반환
+            assertThat(result).isSameAs(job);
+            var order = inOrder(userRepository, userIdentityCache, userDeleter);
+            order.verify(userRepository).markDeleting(1L);
+            order.verify(userIdentityCache).evict(email);
+            order.verify(userDeleter).delete(user);
+        }
 
-            // [Then] 삭제 메서드 호출 확인
-            verify(userRepository, times(1)).delete(user);
+        @Test
+        @DisplayName("성공: 이미 탈퇴가 진행 중이면 새로 시작하지 않고 진행 중인 작업을 반환한다.")
+        void deleteUser_AlreadyRunning() {
+            // [Given] 먼저 온 탈퇴 요청이 표시하고 작업을 시작했다
+            String email = "delete@test.com";
+            User user = new User();
+            user.setUserId(1L);
+            user.setEmail(email);
+
+            UserDeletionJob running = mock(UserDeletionJob.class);
+            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+            given(userRepository.markDeleting(1L)).willReturn(0);
+            given(userDeleter.findByUser(1L)).willReturn(Optional.of(running));
+
+            // [When] 같은 유저의 두 번째 탈퇴 요청
+            UserDeletionJob result = userService.deleteUser(email);
+
+            // [Then]
+            assertThat(result).isSameAs(running);
+            verify(userDeleter, never()).delete(any(User.class));
         }
 
         @Test
@@ -119,7 +174,18 @@ class UserServiceTest {
             });
 
             assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.USER_NOT_FOUND);
-            verify(userRepository, never()).delete(any(User.class));
+            verify(userDeleter, never()).delete(any(User.class));
+        }
+
+        @Test
+        @DisplayName("실패: 없거나 만료되었거나 다른 유저의 탈퇴 작업 조회 시 DELETION_JOB_NOT_FOUND 예외가 발생한다.")
+        void findDeletionJob_Fail_NotFound() {
+            given(userDeleter.find("unknown", "delete@test.com")).willReturn(Optional.empty());
+
+            BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                    () -> userService.findDeletionJob("unknown", "delete@test.com"));
+
+            assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.DELETION_JOB_NOT_FOUND);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.cmc.board;
+
+import com.cmc.board.post.FeedVersion;
+import com.cmc.board.post.PostCache;
+import com.cmc.board.post.ViewCounter;
+import com.cmc.board.trending.TrendingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [Narrative]
+ * 게시글 조회수는 조회마다 DB 에 쓰지 않고 메모리에 모았다가, 주기적으로 한 번의 배치 UPDATE 로 반영해야 한다.
+ * 반영 중에도 보이는 조회수가 줄어들지 않아야 하고, 캐시는 무효화하지 않고 반영된 만큼 더해야 한다.
+ * 반영에 실패한 조회수는 버리지 않고 다음 주기에 다시 반영해야 한다.
+ * 조회가 없는 카운터와 삭제된 게시글의 카운터는 정리해서 메모리가 계속 늘지 않아야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCounterTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PostCache postCache;
+    @Mock private TrendingService trendingService;
+    @Mock private FeedVersion feedVersion;
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new ViewCounter(jdbcTemplate, TransactionOperations.withoutTransaction(), postCache,
+                trendingService, feedVersion);
+    }
+
+    @Test
+    @DisplayName("성공: 게시글별로 모은 조회수를 한 번의 배치로 반영하고 캐시된 조회수에 더한다.")
+    void flush_BatchUpdate() {
+        // [Given]
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        assertThat(viewCounter.pending(1L)).isEqualTo(3L);
+
+        // [When]
+        viewCounter.flush();
+
+        // [Then]
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture()); // 게시글 조회수, 시간 단위 집계
+        assertThat(captor.getAllValues().get(0))
+                .extracting(row -> row[1] + "=" + row[0])
+                .containsExactlyInAnyOrder("1=3", "2=1");
+        assertThat(captor.getAllValues().get(1))
+                .extracting(row -> row[0] + "=" + row[2])
+                .containsExactlyInAnyOrder("1=3", "2=1");
+        verify(postCache, times(1)).addViewCounts(anyLong(), eq(Map.of(1L, 3L, 2L, 1L)));
+        verify(postCache, never()).invalidateAll(anyList());
+        assertThat(viewCounter.pending(1L)).isZero();
+        verify(trendingService, times(1)).recordViews(1L, 3L); // 인기 점수에도 묶어서 반영
+        verify(feedVersion, times(1)).bump(); // 목록의 조회수가 바뀌었다
+    }
+
+    @Test
+    @DisplayName("성공: 반영 중에도 조회수가 줄어들지 않고, 반영 중에 들어온 조회는 다음 주기로 넘어간다.")
+    void flush_PendingWhileFlushing() {
+        // [Given]
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        List<Long> duringFlush = new ArrayList<>();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            duringFlush.add(viewCounter.pending(1L));
+            viewCounter.increment(1L); // 반영 중에 들어온 조회
+            duringFlush.add(viewCounter.pending(1L));
+            return new int[]{1};
+        }).willReturn(new int[]{1});
+
+        // [When]
+        viewCounter.flush();
+
+        // [Then]
+        assertThat(duringFlush).containsExactly(2L, 3L);
+        assertThat(viewCounter.pending(1L)).isEqualTo(1L);
+
+        viewCounter.flush();
+        verify(postCache, times(1)).addViewCounts(anyLong(), eq(Map.of(1L, 1L)));
+        assertThat(viewCounter.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 반영 후 조회가 없던 카운터는 다음 반영 때 지우고, 이후 조회는 새 카운터에 센다.")
+    void flush_DropsIdleCounters() {
+        // [Given]
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        viewCounter.flush(); // 반영 (카운터는 0 으로 남는다)
+
+        // [When] 게시글 2 만 다시 조회된 뒤 반영
+        viewCounter.increment(2L);
+        viewCounter.flush();
+
+        // [Then]
+        assertThat(viewCounter.trackedPosts()).isEqualTo(1);
+        viewCounter.increment(1L);
+        assertThat(viewCounter.pending(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제된 게시글의 카운터는 지우고 반영하지 않는다.")
+    void remove_DeletedPosts() {
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+
+        viewCounter.remove(List.of(1L));
+        viewCounter.flush();
+
+        assertThat(viewCounter.pending(1L)).isZero();
+        verify(postCache, times(1)).addViewCounts(anyLong(), eq(Map.of(2L, 1L)));
+    }
+
+    @Test
+    @DisplayName("성공: 반영할 조회수가 없으면 DB 를 호출하지 않는다.")
+    void flush_Empty() {
+        viewCounter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("실패: 반영에 실패하면 조회수를 되돌려 다음 주기에 다시 반영한다.")
+    void flush_Fail_Restores() {
+        // [Given]
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        // [When]
+        assertThrows(QueryTimeoutException.class, () -> viewCounter.flush());
+
+        // [Then]
+        assertThat(viewCounter.pending(1L)).isEqualTo(2L);
+        verify(postCache, never()).addViewCounts(anyLong(), anyMap());
+    }
+}